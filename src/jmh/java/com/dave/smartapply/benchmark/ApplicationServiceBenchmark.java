@@ -0,0 +1,141 @@
+package com.dave.smartapply.benchmark;
+
+import com.dave.smartapply.SmartApplyApplication;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.service.impl.DeadlineIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks der Service-Hot-Paths gegen eine In-Memory H2, befüllt mit
+ * {@code rowCount} Bewerbungen. Caches sind abgeschaltet, gemessen wird der Datenbankpfad.
+ *
+ * <p>Start: {@code ./gradlew jmh} (Ergebnis: build/results/jmh/results.json),
+ * Vergleich mit der Baseline: {@code ./gradlew jmhCheckBaseline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationServiceBenchmark {
+
+    private static final int INSERT_BATCH_SIZE = 5_000;
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    @Param({"1000", "10000", "100000"})
+    private int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private ApplicationService applicationService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SmartApplyApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run();
+        applicationService = context.getBean(ApplicationService.class);
+        seed(context.getBean(JdbcTemplate.class));
+        // Index wurde beim Start über die leere Datenbank aufgebaut
+        context.getBean(DeadlineIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        String sql = "INSERT INTO applications (id, company_name, position, status, application_date, deadline, "
+                + "notes, salary_expectation, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 1; i <= rowCount; i++) {
+            LocalDate applicationDate = today.minusDays(i % 730);
+            LocalDate deadline = i % 3 == 0 ? applicationDate.plusDays(30) : null;
+            batch.add(new Object[]{
+                    (long) i,
+                    "Firma " + i,
+                    i % 2 == 0 ? "Java Developer" : "Backend Engineer",
+                    STATUSES[i % STATUSES.length].name(),
+                    Date.valueOf(applicationDate),
+                    deadline != null ? Date.valueOf(deadline) : null,
+                    "Notizen zur Bewerbung " + i,
+                    40_000 + (i % 50) * 1_000,
+                    now,
+                    now
+            });
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    @Benchmark
+    public List<Application> getAllApplications() {
+        return applicationService.getAllApplications();
+    }
+
+    @Benchmark
+    public List<Application> getOpenApplications() {
+        return applicationService.getOpenApplications();
+    }
+
+    @Benchmark
+    public List<Application> searchByCompanyName() {
+        return applicationService.searchByCompanyName("firma 42");
+    }
+
+    @Benchmark
+    public List<Application> getUpcomingDeadlines() {
+        return applicationService.getUpcomingDeadlines(7);
+    }
+
+    // Entspricht dem Zusammenbau der Statistik-Karten in ApplicationController.listApplications
+    @Benchmark
+    public long dashboardStatistics() {
+        ApplicationStatisticsDTO statistics = applicationService.getStatistics();
+        return statistics.getTotalCount()
+                + statistics.getActiveCount()
+                + statistics.getCount(ApplicationStatus.DRAFT)
+                + statistics.getCount(ApplicationStatus.APPLIED)
+                + statistics.getInterviewCount()
+                + statistics.getCount(ApplicationStatus.OFFER_RECEIVED)
+                + statistics.getCount(ApplicationStatus.REJECTED);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dave.smartapply.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vergleicht den PostgreSQL-Treiber mit und ohne serverseitige Prepared Statements
+ * (prepareThreshold=0 vs. Wert aus application-prod.properties). Gemessen wird die
+ * Listen-Query, wie Hibernate sie absetzt: pro Aufruf prepareStatement + executeQuery.
+ *
+ * <p>Braucht eine laufende PostgreSQL und ist deshalb nur aktiv mit
+ * {@code ./gradlew jmh -PjmhPostgresUrl=jdbc:postgresql://localhost:5432/smartapply}
+ * (optional -PjmhPostgresUser, -PjmhPostgresPassword). Legt eine eigene Tabelle an und löscht sie wieder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedStatementCacheBenchmark {
+
+    private static final String TABLE = "jmh_statement_cache";
+    private static final int ROW_COUNT = 10_000;
+    private static final String[] STATUSES = {"DRAFT", "APPLIED", "INTERVIEW_SCHEDULED", "OFFER_RECEIVED", "REJECTED"};
+
+    private static final String PAGE_QUERY = "SELECT id, company_name, position, status, application_date, deadline "
+            + "FROM " + TABLE + " WHERE status = ? AND (application_date < ? OR (application_date = ? AND id < ?)) "
+            + "ORDER BY application_date DESC, id DESC LIMIT 20";
+
+    @Param({"0", "3"})
+    private String prepareThreshold;
+
+    private HikariDataSource dataSource;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("smartapply.benchmark.postgres-url"));
+        config.setUsername(System.getProperty("smartapply.benchmark.postgres-user", "postgres"));
+        config.setPassword(System.getProperty("smartapply.benchmark.postgres-password", ""));
+        config.setMaximumPoolSize(1);
+        config.addDataSourceProperty("prepareThreshold", prepareThreshold);
+        config.addDataSourceProperty("preparedStatementCacheQueries", "256");
+        dataSource = new HikariDataSource(config);
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id BIGINT PRIMARY KEY, company_name VARCHAR(255), "
+                    + "position VARCHAR(255), status VARCHAR(50), application_date DATE, deadline DATE)");
+            statement.execute("CREATE INDEX idx_" + TABLE + "_status_date ON " + TABLE
+                    + " (status, application_date DESC, id DESC)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + TABLE
+                    + " VALUES (?, ?, ?, ?, ?, ?)")) {
+                LocalDate today = LocalDate.now();
+                for (int i = 1; i <= ROW_COUNT; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "Firma " + i);
+                    insert.setString(3, "Java Developer");
+                    insert.setString(4, STATUSES[i % STATUSES.length]);
+                    insert.setDate(5, Date.valueOf(today.minusDays(i % 730)));
+                    insert.setDate(6, i % 3 == 0 ? Date.valueOf(today.plusDays(i % 60)) : null);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            statement.execute("ANALYZE " + TABLE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        } finally {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public long keysetPage() throws SQLException {
+        int i = cursor++;
+        Date after = Date.valueOf(LocalDate.now().minusDays(i % 700));
+        long checksum = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PAGE_QUERY)) {
+            statement.setString(1, STATUSES[i % STATUSES.length]);
+            statement.setDate(2, after);
+            statement.setDate(3, after);
+            statement.setLong(4, Long.MAX_VALUE);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    checksum += rows.getLong(1);
+                }
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,22 @@
+package com.dave.smartapply.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-Process-Caches (Caffeine). Größe und TTL werden über
+ * spring.cache.caffeine.spec in application.properties gesteuert.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Status-Histogramm, aus dem alle Dashboard-Zähler abgeleitet werden
+    public static final String STATISTICS_CACHE = "applicationStatistics";
+
+    // Top-N Listen des Dashboards (neueste, offene, Deadlines)
+    public static final String DASHBOARD_CACHE = "applicationDashboard";
+
+    // Gerenderte HTML-Fragmente (nur mit smartapply.fragment-cache.enabled=true)
+    public static final String FRAGMENT_CACHE = "renderedFragments";
+}
@@ -0,0 +1,67 @@
+package com.dave.smartapply.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.JdbcSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Read/Write-Routing (smartapply.datasource.routing.enabled=true): readOnly-Transaktionen
+ * lesen von den Replikaten, alles andere läuft über den Primary aus spring.datasource.*.
+ * Ohne die Property bleibt es bei der einen DataSource von Spring Boot.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty("smartapply.datasource.routing.enabled")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaDataSources replicaDataSources(DataSourceRoutingProperties properties,
+                                                 @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                 TaskScheduler taskScheduler,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) throws SQLException {
+        return new ReplicaDataSources(properties, primaryDataSource.unwrap(HikariDataSource.class),
+                taskScheduler, meterRegistry.getIfAvailable());
+    }
+
+    // Flyway, JPA und JdbcTemplate verwenden diese DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaDataSources replicaDataSources,
+                                 DataSourceRoutingProperties properties) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSources, properties.getReadYourWrites()));
+    }
+
+    // Spring hält die Verbindung sonst bis zum Schließen des EntityManagers - mit Open-in-View
+    // also den ganzen Request über, und jede weitere Transaktion liefe über die erste Verbindung
+    @Bean
+    public HibernatePropertiesCustomizer connectionPerTransaction() {
+        return properties -> properties.put(JdbcSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
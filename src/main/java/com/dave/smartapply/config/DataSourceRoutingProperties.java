@@ -0,0 +1,46 @@
+package com.dave.smartapply.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lese-Replikate für das Read/Write-Routing (smartapply.datasource.routing.*).
+ * Der Primary kommt weiterhin aus spring.datasource.*.
+ */
+@Data
+@ConfigurationProperties("smartapply.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replikate mit größerer Verzögerung werden bis zum Aufholen übersprungen
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    // So lange liest eine Sitzung nach einem Schreibzugriff vom Primary
+    private Duration readYourWrites = Duration.ofSeconds(5);
+
+    // Verzögerung in Sekunden; NULL zählt als 0 (kein Replikat oder nichts nachzuspielen)
+    private String lagQuery = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    @Data
+    public static class Replica {
+
+        private String url;
+
+        // Ohne Angabe werden Benutzer und Passwort des Primary verwendet
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,64 @@
+package com.dave.smartapply.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metriken für Service und Datenzugriff, abrufbar unter /actuator/prometheus:
+ * - smartapply.service: Timer je ApplicationService-Methode (über @Timed)
+ * - spring.data.repository.invocations: Timer je Repository-Finder (Spring Boot)
+ * - hibernate.*: Hibernate-Statistiken (hibernate.generate_statistics)
+ * - hikaricp.*: Connection-Pool
+ * Repository-Aufrufe über smartapply.metrics.slow-query-threshold werden zusätzlich
+ * als strukturierte Log-Zeile (Key-Value-Paare) gemeldet.
+ */
+@Configuration
+@Slf4j
+public class MetricsConfig {
+
+    // Name des Service-Timers (siehe @Timed auf ApplicationServiceImpl)
+    public static final String SERVICE_TIMER = "smartapply.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryLoggingPostProcessor(
+            @Value("${smartapply.metrics.slow-query-threshold:250ms}") Duration threshold) {
+        RepositoryMethodInvocationListener listener = invocation -> {
+            long durationMs = invocation.getDuration(TimeUnit.MILLISECONDS);
+            if (durationMs < threshold.toMillis()) {
+                return;
+            }
+            log.atWarn()
+                    .addKeyValue("repository", invocation.getRepositoryInterface().getSimpleName())
+                    .addKeyValue("method", invocation.getMethod().getName())
+                    .addKeyValue("durationMs", durationMs)
+                    .addKeyValue("thresholdMs", threshold.toMillis())
+                    .addKeyValue("state", invocation.getResult().getState())
+                    .log("Slow repository query");
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(listener));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.dave.smartapply.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Prüft beim Start die performancekritischen Einstellungen (Pool, Batching, SQL-Logging,
+ * PostgreSQL-Statement-Cache). Fehler werden geloggt; mit
+ * smartapply.startup-check.fail-on-error=true (Profil prod) bricht der Start ab.
+ */
+@Component
+@Slf4j
+public class PerformanceSettingsCheck implements ApplicationRunner {
+
+    private static final int MIN_BATCH_SIZE = 10;
+    private static final long MAX_CONNECTION_TIMEOUT_MS = 10_000;
+
+    private final Environment environment;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final boolean failOnError;
+
+    public PerformanceSettingsCheck(Environment environment,
+                                    EntityManagerFactory entityManagerFactory,
+                                    DataSource dataSource,
+                                    @Value("${smartapply.startup-check.fail-on-error:false}") boolean failOnError) {
+        this.environment = environment;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.failOnError = failOnError;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+
+        checkHibernate(entityManagerFactory.getProperties(), errors, warnings);
+        checkPool(errors, warnings);
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            warnings.add("spring.jpa.open-in-view is enabled - connections stay bound until the view is rendered");
+        }
+
+        warnings.forEach(warning -> log.warn("Performance setting: {}", warning));
+        errors.forEach(error -> log.error("Performance setting: {}", error));
+        if (errors.isEmpty() && warnings.isEmpty()) {
+            log.info("Performance settings check passed");
+        }
+        if (failOnError && !errors.isEmpty()) {
+            throw new IllegalStateException("Performance settings check failed: " + String.join("; ", errors));
+        }
+    }
+
+    private void checkHibernate(Map<String, Object> properties, List<String> errors, List<String> warnings) {
+        if (environment.getProperty("spring.jpa.show-sql", Boolean.class, false)
+                || isTrue(properties.get("hibernate.show_sql"))) {
+            errors.add("SQL logging to stdout is enabled (spring.jpa.show-sql)");
+        }
+        if (isTrue(properties.get("hibernate.format_sql"))) {
+            warnings.add("hibernate.format_sql is enabled");
+        }
+
+        int batchSize = toInt(properties.get("hibernate.jdbc.batch_size"));
+        if (batchSize < MIN_BATCH_SIZE) {
+            errors.add("hibernate.jdbc.batch_size is " + (batchSize <= 0 ? "not set" : batchSize)
+                    + " - inserts and updates are sent one by one (expected >= " + MIN_BATCH_SIZE + ")");
+        }
+        if (!isTrue(properties.get("hibernate.order_inserts"))) {
+            warnings.add("hibernate.order_inserts is disabled - batches break on mixed entity types");
+        }
+        if (!isTrue(properties.get("hibernate.order_updates"))) {
+            warnings.add("hibernate.order_updates is disabled - update batches break on mixed entity types");
+        }
+    }
+
+    private void checkPool(List<String> errors, List<String> warnings) {
+        HikariDataSource hikari;
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                warnings.add("DataSource is not a HikariDataSource - pool settings not checked");
+                return;
+            }
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            warnings.add("Could not inspect DataSource: " + e.getMessage());
+            return;
+        }
+
+        if (environment.getProperty("spring.datasource.hikari.maximum-pool-size") == null) {
+            warnings.add("spring.datasource.hikari.maximum-pool-size is not set - using the default of "
+                    + hikari.getMaximumPoolSize());
+        }
+        if (hikari.getConnectionTimeout() > MAX_CONNECTION_TIMEOUT_MS) {
+            warnings.add("Connection timeout is " + hikari.getConnectionTimeout()
+                    + " ms - requests queue that long before failing under load");
+        }
+
+        String jdbcUrl = hikari.getJdbcUrl();
+        if (jdbcUrl != null && jdbcUrl.startsWith("jdbc:postgresql:")) {
+            Properties driverProperties = hikari.getDataSourceProperties();
+            int prepareThreshold = toInt(driverProperties.getOrDefault("prepareThreshold",
+                    extractUrlParameter(jdbcUrl, "prepareThreshold")));
+            if (prepareThreshold == 0) {
+                errors.add("PostgreSQL server-side prepared statements are disabled (prepareThreshold=0)");
+            } else if (prepareThreshold < 0) {
+                warnings.add("PostgreSQL prepareThreshold is not configured - statements are parsed "
+                        + "five times before the driver caches them");
+            }
+            if (!isTrue(driverProperties.get("reWriteBatchedInserts"))) {
+                warnings.add("PostgreSQL reWriteBatchedInserts is disabled - JDBC batches are sent as single INSERTs");
+            }
+        }
+    }
+
+    private static String extractUrlParameter(String jdbcUrl, String name) {
+        int query = jdbcUrl.indexOf('?');
+        if (query < 0) {
+            return null;
+        }
+        for (String parameter : jdbcUrl.substring(query + 1).split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTrue(Object value) {
+        return value != null && Boolean.parseBoolean(value.toString());
+    }
+
+    // -1 = nicht gesetzt
+    private static int toInt(Object value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.dave.smartapply.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Lesezugriffe, die auch in readOnly-Transaktionen vom Primary lesen: Loader geteilter Caches
+ * (Statistik, Dashboard-Listen, DeadlineIndex, Hibernate-Query-Cache) und Versionsabfragen
+ * für ETags. Ein veralteter Stand vom Replikat bliebe dort sonst bis zur nächsten
+ * Invalidierung stehen. Ohne Read/Write-Routing ohne Wirkung.
+ *
+ * <p>Wirkt auf Transaktionen, die innerhalb des Aufrufs ihre Verbindung holen - hinter dem
+ * LazyConnectionDataSourceProxy also beim ersten Statement.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T call(Supplier<T> action) {
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            int depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    public static void run(Runnable action) {
+        call(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+}
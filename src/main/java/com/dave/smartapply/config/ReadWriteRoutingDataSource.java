@@ -0,0 +1,128 @@
+package com.dave.smartapply.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Leitet Verbindungen aus @Transactional(readOnly = true) an die Lese-Replikate,
+ * alles andere (und {@link PrimaryReads}) an den Primary. Nach einem Schreibzugriff liest
+ * der Client für die Dauer von read-your-writes vom Primary, damit z.B. die Detailseite
+ * nach dem Speichern keinen veralteten Stand zeigt. Der Zeitpunkt des Schreibzugriffs geht
+ * als kurzlebiges Cookie an den Client, der ihn mit den folgenden Requests zurückschickt -
+ * ohne Session und unabhängig davon, welche Instanz den Request bearbeitet. Außerhalb
+ * eines Requests gilt er für den Thread.
+ *
+ * <p>Steht hinter einem LazyConnectionDataSourceProxy - erst beim ersten Statement ist
+ * die Transaktion (und ob sie readOnly ist) vollständig angelegt.
+ */
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    static final String LAST_WRITE_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".lastWrite";
+
+    static final String LAST_WRITE_COOKIE = "smartapply-last-write";
+
+    private static final ThreadLocal<Long> LAST_WRITE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReplicaDataSources replicas;
+    private final long readYourWritesMillis;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSources replicas, Duration readYourWrites) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.readYourWritesMillis = readYourWrites.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                markWrite();
+            } else if (!PrimaryReads.isActive() && !recentlyWritten()) {
+                Connection replica = replicas.getConnection();
+                if (replica != null) {
+                    return replica;
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // Pool-Prüfungen (z.B. PerformanceSettingsCheck) sehen den Primary
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    private void markWrite() {
+        long now = System.currentTimeMillis();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            LAST_WRITE.set(now);
+            return;
+        }
+        boolean firstWrite = request.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) == null;
+        request.setAttribute(LAST_WRITE_ATTRIBUTE, now, RequestAttributes.SCOPE_REQUEST);
+        HttpServletResponse response = request instanceof ServletRequestAttributes servletRequest
+                ? servletRequest.getResponse() : null;
+        // Ist die Antwort schon abgeschickt, gilt der Schreibzugriff nur für den Request
+        if (firstWrite && response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(LAST_WRITE_COOKIE, Long.toString(now));
+            cookie.setMaxAge((int) Math.max(1, (readYourWritesMillis + 999) / 1000));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+    }
+
+    private boolean recentlyWritten() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return isRecent(LAST_WRITE.get());
+        }
+        return isRecent(request.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+                || (request instanceof ServletRequestAttributes servletRequest
+                        && isRecent(lastWriteCookie(servletRequest.getRequest().getCookies())));
+    }
+
+    private static Long lastWriteCookie(Cookie[] cookies) {
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.valueOf(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isRecent(Object lastWrite) {
+        return lastWrite instanceof Long millis && System.currentTimeMillis() - millis < readYourWritesMillis;
+    }
+}
@@ -0,0 +1,153 @@
+package com.dave.smartapply.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection-Pools der Lese-Replikate. Ein Hintergrund-Job misst regelmäßig die
+ * Replikationsverzögerung; Replikate über max-lag oder ohne Verbindung werden
+ * übersprungen, bis sie wieder aufgeholt haben. Bis zur ersten Messung gilt ein
+ * Replikat als nicht verfügbar, Lesezugriffe gehen dann an den Primary.
+ */
+@Slf4j
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final double maxLagSeconds;
+    private final String lagQuery;
+    private final ScheduledFuture<?> lagCheck;
+
+    public ReplicaDataSources(DataSourceRoutingProperties properties,
+                              HikariDataSource primary,
+                              TaskScheduler taskScheduler,
+                              MeterRegistry meterRegistry) {
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        this.lagQuery = properties.getLagQuery();
+
+        List<DataSourceRoutingProperties.Replica> configured = properties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            Replica replica = new Replica(createPool("replica-" + (i + 1), configured.get(i), primary, meterRegistry));
+            if (meterRegistry != null) {
+                Gauge.builder("smartapply.datasource.replica.lag", replica, r -> r.lagSeconds)
+                        .description("Replication lag measured by the last check (NaN = unreachable)")
+                        .baseUnit("seconds")
+                        .tag("replica", replica.name())
+                        .register(meterRegistry);
+            }
+            replicas.add(replica);
+        }
+        log.info("Read/write routing enabled with {} replica(s), max lag {}", replicas.size(), properties.getMaxLag());
+        this.lagCheck = replicas.isEmpty() ? null
+                : taskScheduler.scheduleWithFixedDelay(this::checkLag, properties.getLagCheckInterval());
+    }
+
+    // Verbindung zum nächsten verfügbaren Replikat (Round-Robin) oder null
+    public Connection getConnection() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica {} unavailable, skipping until next lag check: {}", replica.name(), e.getMessage());
+                replica.available = false;
+            }
+        }
+        return null;
+    }
+
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.available;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery(lagQuery)) {
+                double lag = result.next() ? result.getDouble(1) : 0;
+                replica.lagSeconds = lag;
+                replica.available = lag <= maxLagSeconds;
+                if (wasAvailable && !replica.available) {
+                    log.warn("Replica {} is {} s behind (max {} s) - reads go to the primary", replica.name(), lag, maxLagSeconds);
+                }
+            } catch (SQLException e) {
+                replica.lagSeconds = Double.NaN;
+                replica.available = false;
+                if (wasAvailable) {
+                    log.warn("Replica {} failed its lag check - reads go to the primary: {}", replica.name(), e.getMessage());
+                }
+            }
+            if (!wasAvailable && replica.available) {
+                log.info("Replica {} is available ({} s behind)", replica.name(), replica.lagSeconds);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (lagCheck != null) {
+            lagCheck.cancel(false);
+        }
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // Übernimmt Timeouts und Treiber-Properties (z.B. prepareThreshold) vom Primary
+    private static HikariDataSource createPool(String name, DataSourceRoutingProperties.Replica replica,
+                                               HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(replica.getUrl());
+        config.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        config.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        if (primary.getMinimumIdle() >= 0) {
+            config.setMinimumIdle(Math.min(primary.getMinimumIdle(), replica.getMaximumPoolSize()));
+        }
+        config.setConnectionTimeout(primary.getConnectionTimeout());
+        config.setIdleTimeout(primary.getIdleTimeout());
+        config.setMaxLifetime(primary.getMaxLifetime());
+        config.setDataSourceProperties(primary.getDataSourceProperties());
+        config.setReadOnly(true);
+        // Ein fehlendes Replikat darf den Start nicht verhindern
+        config.setInitializationFailTimeout(-1);
+        if (meterRegistry != null) {
+            config.setMetricRegistry(meterRegistry);
+        }
+        return new HikariDataSource(config);
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+    }
+}
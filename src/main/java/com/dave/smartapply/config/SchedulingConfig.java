@@ -0,0 +1,13 @@
+package com.dave.smartapply.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Hintergrund-Jobs (z.B. Aufbau des Deadline-Index). Der Scheduler nutzt
+ * spring.task.scheduling.* bzw. Virtual Threads im Profil virtual-threads.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
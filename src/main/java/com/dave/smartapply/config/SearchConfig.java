@@ -0,0 +1,29 @@
+package com.dave.smartapply.config;
+
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.ApplicationSearchEngine;
+import com.dave.smartapply.service.impl.PostgresApplicationSearchEngine;
+import com.dave.smartapply.service.impl.SimpleApplicationSearchEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class SearchConfig {
+
+    // Suchmaschine passend zur Datenbank: PostgreSQL (Trigram/tsvector) oder portable LIKE-Suche
+    @Bean
+    public ApplicationSearchEngine applicationSearchEngine(
+            ApplicationRepository applicationRepository,
+            @Value("${spring.datasource.url:}") String datasourceUrl) {
+
+        if (datasourceUrl.startsWith("jdbc:postgresql:")) {
+            log.info("Using PostgreSQL trigram/full-text search engine");
+            return new PostgresApplicationSearchEngine(applicationRepository);
+        }
+        log.info("Using simple LIKE-based search engine");
+        return new SimpleApplicationSearchEngine(applicationRepository);
+    }
+}
@@ -0,0 +1,73 @@
+package com.dave.smartapply.config;
+
+import com.dave.smartapply.model.Application;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate Second-Level- und Query-Cache (smartapply.second-level-cache.enabled=true).
+ * Lokaler JCache-Provider (Caffeine) mit fest angelegten, größenbegrenzten Regionen;
+ * Hibernate invalidiert Einträge bei Updates, Deletes und Bulk-Updates selbst.
+ * Treffer/Fehlzugriffe erscheinen als hibernate.second.level.cache.requests bzw.
+ * hibernate.cache.query.requests in den Metriken.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty("smartapply.second-level-cache.enabled")
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    // Regionsnamen von Hibernate: Entity-Klasse, Query-Ergebnisse, Änderungszeitpunkte je Tabelle
+    public static final String APPLICATION_REGION = Application.class.getName();
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${smartapply.second-level-cache.entity-max-entries:10000}") long entityMaxEntries,
+            @Value("${smartapply.second-level-cache.query-max-entries:1000}") long queryMaxEntries,
+            @Value("${smartapply.second-level-cache.time-to-live:10m}") Duration timeToLive) {
+
+        // Eigene Provider-Instanz: jeder Spring-Kontext (z.B. in Tests) bekommt einen eigenen CacheManager
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(APPLICATION_REGION, region(entityMaxEntries, timeToLive));
+        cacheManager.createCache(QUERY_RESULTS_REGION, region(queryMaxEntries, timeToLive));
+        // Zeitstempel dürfen nicht verdrängt werden, sonst liefert der Query-Cache veraltete Ergebnisse
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>().setStatisticsEnabled(true));
+
+        log.info("Second-level cache enabled - {} entities, {} query results, time to live {}",
+                entityMaxEntries, queryMaxEntries, timeToLive);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(CacheSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(CacheSettings.USE_QUERY_CACHE, true);
+            properties.put(CacheSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // Nur die oben angelegten (begrenzten) Regionen verwenden
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // TTL als Sicherheitsnetz für Änderungen an Hibernate vorbei (andere Instanzen, SQL-Skripte)
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, Duration timeToLive) {
+        return new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxEntries))
+                .setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()))
+                .setStatisticsEnabled(true);
+    }
+}
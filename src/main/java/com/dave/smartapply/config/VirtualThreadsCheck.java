@@ -0,0 +1,63 @@
+package com.dave.smartapply.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Prüft beim Start im Virtual-Thread-Modus, ob die Laufzeit passt:
+ * Java 21+ und ein JDBC-Treiber ohne synchronized auf dem I/O-Pfad
+ * (PostgreSQL-Treiber ab 42.6, sonst werden Carrier-Threads gepinnt).
+ */
+@Component
+@ConditionalOnBooleanProperty("spring.threads.virtual.enabled")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadsCheck implements ApplicationRunner {
+
+    private static final int MIN_JAVA_VERSION = 21;
+
+    private static final String POSTGRES_DRIVER_NAME = "PostgreSQL JDBC Driver";
+    private static final int[] MIN_POSTGRES_DRIVER_VERSION = {42, 6};
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MIN_JAVA_VERSION) {
+            log.warn("Virtual threads requested but running on Java {} - requests use platform threads. "
+                    + "Start with Java {}+ to enable them", javaVersion, MIN_JAVA_VERSION);
+            return;
+        }
+        log.info("Virtual threads enabled (Java {})", javaVersion);
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String driverName = metaData.getDriverName();
+            String driverVersion = metaData.getDriverVersion();
+            if (POSTGRES_DRIVER_NAME.equals(driverName) && !isAtLeast(metaData, MIN_POSTGRES_DRIVER_VERSION)) {
+                log.warn("JDBC driver {} {} uses synchronized I/O and will pin carrier threads - upgrade to {}.{}+",
+                        driverName, driverVersion, MIN_POSTGRES_DRIVER_VERSION[0], MIN_POSTGRES_DRIVER_VERSION[1]);
+            } else {
+                log.info("JDBC driver {} {} is virtual-thread friendly", driverName, driverVersion);
+            }
+        } catch (SQLException e) {
+            log.warn("Could not inspect JDBC driver for virtual thread compatibility", e);
+        }
+    }
+
+    private static boolean isAtLeast(DatabaseMetaData metaData, int[] minimum) {
+        int major = metaData.getDriverMajorVersion();
+        int minor = metaData.getDriverMinorVersion();
+        return major > minimum[0] || (major == minimum[0] && minor >= minimum[1]);
+    }
+}
@@ -0,0 +1,221 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.dto.ApplicationCreateDTO;
+import com.dave.smartapply.dto.ApplicationDetailDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.dto.ApplicationStatusDTO;
+import com.dave.smartapply.dto.DuplicateReportDTO;
+import com.dave.smartapply.dto.StatusFunnelDTO;
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.exception.ApplicationNotFoundException;
+import com.dave.smartapply.exception.DuplicateApplicationException;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.service.DuplicateReportService;
+import com.dave.smartapply.service.StatusHistoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * JSON-API für Integrationen (Version 1, Header API-Version).
+ * Alle GETs liefern einen ETag; bei passendem If-None-Match antwortet die API mit 304,
+ * ohne die Daten zu laden. Änderungen nehmen den ETag als If-Match entgegen
+ * und antworten bei veraltetem Stand mit 412.
+ *
+ * <p>Die ETags sind schwach (W/"..."): sie beschreiben den Datenstand, nicht die Bytes - Tomcat
+ * komprimiert Antworten mit starkem ETag nicht, da die gzip-Variante andere Bytes hat.
+ */
+@RestController
+@RequestMapping(path = "/api/applications", version = "1")
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationApiController {
+
+    private final ApplicationService applicationService;
+    private final StatusHistoryService statusHistoryService;
+    private final DuplicateReportService duplicateReportService;
+
+    @GetMapping
+    public ResponseEntity<ApplicationPageDTO> list(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+
+        String eTag = dataETag("list");
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(applicationService.getApplicationPage(status, afterDate, afterId, size));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApplicationStatisticsDTO> stats(WebRequest request) {
+        String eTag = dataETag("stats");
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(applicationService.getStatistics());
+    }
+
+    // Funnel und Verweildauer je Status (aus den Rollups, ändert sich mit jedem Statuswechsel)
+    @GetMapping("/funnel")
+    public ResponseEntity<StatusFunnelDTO> funnel(WebRequest request) {
+        String eTag = dataETag("funnel");
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(statusHistoryService.getFunnel());
+    }
+
+    // Letzter Lauf des nächtlichen Duplikat-Reports
+    @GetMapping("/duplicates")
+    public DuplicateReportDTO duplicates() {
+        return duplicateReportService.getLatestReport();
+    }
+
+    @GetMapping("/{id}/history")
+    public List<StatusTransitionDTO> history(@PathVariable Long id) {
+        return statusHistoryService.getHistory(id);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApplicationDetailDTO> get(@PathVariable Long id, WebRequest request) {
+        // Erst nur die Version prüfen - bei 304 wird die Zeile nicht geladen
+        Long version = applicationService.getApplicationVersion(id)
+                .orElseThrow(() -> new ApplicationNotFoundException(id));
+        if (request.checkNotModified(versionETag(id, version))) {
+            return null;
+        }
+        Application application = applicationService.getApplicationById(id)
+                .orElseThrow(() -> new ApplicationNotFoundException(id));
+        return withETag(ResponseEntity.ok(), application);
+    }
+
+    @PostMapping
+    public ResponseEntity<ApplicationDetailDTO> create(@Valid @RequestBody ApplicationCreateDTO dto) {
+        log.info("API: creating application for company: {}", dto.getCompanyName());
+        Application saved = applicationService.createApplication(dto.toApplication());
+        return withETag(ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(saved.getId())
+                .toUri()), saved);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ApplicationDetailDTO> update(
+            @PathVariable Long id,
+            @Valid @RequestBody ApplicationCreateDTO dto,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("API: updating application ID: {}", id);
+        Application application = dto.toApplication();
+        // Ohne If-Match wird ohne Konfliktprüfung geschrieben (wie das Formular ohne Version)
+        application.setVersion(parseVersion(id, ifMatch));
+        return withETag(ResponseEntity.ok(), applicationService.updateApplication(id, application));
+    }
+
+    @PutMapping("/{id}/status")
+    public ResponseEntity<ApplicationDetailDTO> updateStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody ApplicationStatusDTO dto,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("API: updating status for application ID: {} to {}", id, dto.getStatus());
+        // Versionsprüfung in der Transaktion des Statuswechsels (wie bei update)
+        return withETag(ResponseEntity.ok(),
+                applicationService.updateStatus(id, dto.getStatus(), parseVersion(id, ifMatch)));
+    }
+
+    @ExceptionHandler(ApplicationNotFoundException.class)
+    public ResponseEntity<ProblemDetail> handleNotFound(ApplicationNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage()));
+    }
+
+    // 409 mit Verweis auf die bestehende Bewerbung
+    @ExceptionHandler(DuplicateApplicationException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicate(DuplicateApplicationException e) {
+        log.warn("API duplicate: {}", e.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+        problem.setProperty("existingApplicationId", e.getExistingApplicationId());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/api/applications/{id}")
+                        .buildAndExpand(e.getExistingApplicationId())
+                        .toUri())
+                .body(problem);
+    }
+
+    @ExceptionHandler(ApplicationConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(ApplicationConflictException e) {
+        log.warn("API conflict: {}", e.getMessage());
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.PRECONDITION_FAILED);
+        if (e.getCurrentVersion() != null) {
+            builder.eTag(versionETag(e.getApplicationId(), e.getCurrentVersion()));
+        }
+        return builder.body(ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, e.getMessage()));
+    }
+
+    private static ResponseEntity<ApplicationDetailDTO> withETag(ResponseEntity.BodyBuilder builder,
+                                                                 Application application) {
+        builder.eTag(versionETag(application.getId(), application.getVersion()));
+        if (application.getUpdatedAt() != null) {
+            builder.lastModified(application.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        return builder.body(ApplicationDetailDTO.from(application));
+    }
+
+    // Aus dem Änderungszähler der Datenbank - gleich auf allen Instanzen, ändert sich bei jedem Schreibzugriff
+    private String dataETag(String resource) {
+        return "W/\"" + resource + "-" + applicationService.getDataState() + "\"";
+    }
+
+    private static String versionETag(Long id, Long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    // If-Match: "<id>-<version>" (auch als schwacher ETag W/"...")
+    private static Long parseVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        String prefix = id + "-";
+        if (!value.startsWith(prefix)) {
+            throw new ApplicationConflictException(id, null, null);
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new ApplicationConflictException(id, null, null);
+        }
+    }
+}
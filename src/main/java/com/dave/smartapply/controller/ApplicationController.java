@@ -1,16 +1,34 @@
 package com.dave.smartapply.controller;
 
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.ApplicationImportResultDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.exception.ApplicationNotFoundException;
+import com.dave.smartapply.exception.DuplicateApplicationException;
 import com.dave.smartapply.model.Application;
 import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationExportService;
+import com.dave.smartapply.service.ApplicationImportService;
 import com.dave.smartapply.service.ApplicationService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -22,47 +40,56 @@ import java.util.List;
 public class ApplicationController {
 
     private final ApplicationService applicationService;
+    private final ApplicationImportService applicationImportService;
+    private final ApplicationExportService applicationExportService;
 
     // Dashboard - Übersicht aller Bewerbungen
     @GetMapping
     public String listApplications(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "0") int searchPage,
             Model model) {
 
         log.info("Loading applications list - status: {}, search: {}", status, search);
 
-        List<Application> applications;
+        List<?> applications;
 
-        // Filter nach Status oder Suche
+        // Filter nach Status oder Suche - Status-Filter und Gesamtliste seitenweise (Keyset)
         if (status != null && !status.isEmpty()) {
-            applications = applicationService.getApplicationsByStatus(ApplicationStatus.valueOf(status));
+            applications = loadPage(ApplicationStatus.valueOf(status), afterDate, afterId, size, model);
         } else if (search != null && !search.isEmpty()) {
-            applications = applicationService.searchByCompanyName(search);
+            Slice<ApplicationDTO> results = applicationService.searchApplications(search, searchPage, size);
+            applications = results.getContent();
+            model.addAttribute("searchResults", results);
+            model.addAttribute("pageSize", size);
         } else {
-            applications = applicationService.getAllApplications();
+            applications = loadPage(null, afterDate, afterId, size, model);
         }
 
-        // Statistiken für Dashboard
+        // Statistik-Karten und Status-Dropdowns kommen als (gecachte) Fragmente aus RenderedFragments
         model.addAttribute("applications", applications);
         model.addAttribute("totalCount", applicationService.getTotalApplications());
-        model.addAttribute("activeCount", applicationService.getActiveApplications());
-        model.addAttribute("draftCount", applicationService.getCountByStatus(ApplicationStatus.DRAFT));
-        model.addAttribute("appliedCount", applicationService.getCountByStatus(ApplicationStatus.APPLIED));
-        model.addAttribute("interviewCount",
-                applicationService.getCountByStatus(ApplicationStatus.INTERVIEW_SCHEDULED) +
-                        applicationService.getCountByStatus(ApplicationStatus.INTERVIEW_DONE));
-        model.addAttribute("offerCount", applicationService.getCountByStatus(ApplicationStatus.OFFER_RECEIVED));
-        model.addAttribute("rejectedCount", applicationService.getCountByStatus(ApplicationStatus.REJECTED));
-
-        // Alle Status für Filter-Dropdown
-        model.addAttribute("allStatuses", Arrays.asList(ApplicationStatus.values()));
         model.addAttribute("selectedStatus", status);
         model.addAttribute("searchTerm", search);
+        // Neue Bewerbungen per Live-Update nur in die ungefilterte erste Seite einfügen
+        model.addAttribute("liveInsert", (status == null || status.isEmpty())
+                && (search == null || search.isEmpty()) && afterId == null);
 
         return "applications/list";
     }
 
+    private List<ApplicationDTO> loadPage(ApplicationStatus status, LocalDate afterDate, Long afterId,
+                                          int size, Model model) {
+        ApplicationPageDTO page = applicationService.getApplicationPage(status, afterDate, afterId, size);
+        model.addAttribute("page", page);
+        model.addAttribute("pageSize", size);
+        return page.getItems();
+    }
+
     // Formular für neue Bewerbung anzeigen
     @GetMapping("/new")
     public String showCreateForm(Model model) {
@@ -85,7 +112,6 @@ public class ApplicationController {
             BindingResult result,
             RedirectAttributes redirectAttributes) {
 
-        System.out.println("========== POST REQUEST RECEIVED ==========");
         log.info("Creating application for company: {}", application.getCompanyName());
 
         if (result.hasErrors()) {
@@ -101,6 +127,10 @@ public class ApplicationController {
                     "Bewerbung bei " + saved.getCompanyName() + " erfolgreich erstellt!");
 
             return "redirect:/applications";
+        } catch (DuplicateApplicationException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Diese Bewerbung existiert bereits (gleiche Firma, Position und Stellen-URL).");
+            return "redirect:/applications/" + e.getExistingApplicationId();
         } catch (Exception e) {
             log.error("Error creating application", e);
             redirectAttributes.addFlashAttribute("errorMessage",
@@ -109,25 +139,71 @@ public class ApplicationController {
         }
     }
 
+    // Bulk-Import Formular (CSV oder JSON)
+    @GetMapping("/import")
+    public String showImportForm() {
+        log.info("Showing import form");
+        return "applications/import";
+    }
+
+    // Bulk-Import: Datei wird gestreamt und in Chunks gespeichert
+    @PostMapping("/import")
+    public String importApplications(@RequestParam("file") MultipartFile file, Model model) {
+        log.info("Importing applications from file: {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Bitte eine CSV- oder JSON-Datei auswählen.");
+            return "applications/import";
+        }
+
+        try (InputStream input = file.getInputStream()) {
+            ApplicationImportResultDTO result = applicationImportService.importApplications(
+                    input, ApplicationImportService.Format.fromFilename(file.getOriginalFilename()));
+            model.addAttribute("importResult", result);
+            model.addAttribute("successMessage",
+                    result.getImportedRows() + " von " + result.getTotalRows() + " Bewerbungen importiert.");
+        } catch (IOException | RuntimeException e) {
+            log.error("Error importing applications", e);
+            model.addAttribute("errorMessage", "Fehler beim Import: " + e.getMessage());
+        }
+
+        return "applications/import";
+    }
+
+    // Export als CSV oder NDJSON - wird direkt in die Response gestreamt
+    @GetMapping("/export")
+    public void exportApplications(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+
+        ApplicationExportService.Format exportFormat = ApplicationExportService.Format.fromParameter(format);
+        log.info("Exporting applications - status: {}, search: {}, format: {}", status, search, exportFormat);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"applications." + exportFormat.getFileExtension() + "\"");
+
+        ApplicationStatus statusFilter = (status != null && !status.isEmpty()) ? ApplicationStatus.valueOf(status) : null;
+        applicationExportService.exportApplications(statusFilter, search, exportFormat, response.getOutputStream());
+    }
+
     // Einzelne Bewerbung anzeigen (Detail-View)
     @GetMapping("/{id}")
     public String showApplication(@PathVariable Long id, Model model) {
-        System.out.println("======== LOADING APPLICATION ID: " + id + " ========= ");
         log.info("Showing application details for ID: {}", id);
 
         return applicationService.getApplicationById(id)
                 .map(application -> {
-                    System.out.println("Application found: " + application);
-                    System.out.println("Company: " + application.getCompanyName());
-                    System.out.println("Status: " + application.getStatus());
-                    System.out.println("Position: " + application.getPosition());
-                    System.out.println("ID: " + application.getId());
+                    log.debug("Application found: {} - {} ({})",
+                            application.getCompanyName(), application.getPosition(), application.getStatus());
 
                     model.addAttribute("application", application);
                     return "applications/detail";
                 })
                 .orElseGet(() -> {
-                    System.out.println("========== APPLICATION NOT FOUND! ==========");
                     log.warn("Application not found with ID: {}", id);
                     return "redirect:/applications";
                 });
@@ -141,6 +217,8 @@ public class ApplicationController {
         return applicationService.getApplicationById(id)
                 .map(application -> {
                     model.addAttribute("application", application);
+                    // ${application} ist in Thymeleaf reserviert (ServletContext) - ID separat für die Formular-URL
+                    model.addAttribute("applicationId", application.getId());
                     model.addAttribute("allStatuses", Arrays.asList(ApplicationStatus.values()));
                     model.addAttribute("isEdit", true);
                     return "applications/form";
@@ -175,6 +253,11 @@ public class ApplicationController {
                     "Bewerbung bei " + updated.getCompanyName() + " erfolgreich aktualisiert!");
 
             return "redirect:/applications/" + id;
+        } catch (ApplicationConflictException e) {
+            log.warn("Conflict while updating application {}: {}", id, e.getMessage());
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Die Bewerbung wurde zwischenzeitlich geändert. Bitte prüfe den aktuellen Stand und speichere erneut.");
+            return "redirect:/applications/" + id + "/edit";
         } catch (Exception e) {
             log.error("Error updating application", e);
             redirectAttributes.addFlashAttribute("errorMessage",
@@ -202,7 +285,67 @@ public class ApplicationController {
         return "redirect:/applications";
     }
 
-    // Status schnell ändern (AJAX-fähig)
+    // Bulk-Statuswechsel: ausgewählte IDs oder Filter (Status + älter als N Tage)
+    @PostMapping("/bulk-status")
+    public String bulkUpdateStatus(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) ApplicationStatus currentStatus,
+            @RequestParam(defaultValue = "0") int olderThanDays,
+            @RequestParam ApplicationStatus status,
+            RedirectAttributes redirectAttributes) {
+
+        log.info("Bulk status update - ids: {}, currentStatus: {}, olderThanDays: {}, target: {}",
+                ids != null ? ids.size() : 0, currentStatus, olderThanDays, status);
+
+        try {
+            int updated;
+            if (ids != null && !ids.isEmpty()) {
+                updated = applicationService.bulkUpdateStatus(ids, status);
+            } else if (currentStatus != null) {
+                updated = applicationService.bulkUpdateStatus(currentStatus, olderThanDays, status);
+            } else {
+                redirectAttributes.addFlashAttribute("errorMessage",
+                        "Bitte Bewerbungen auswählen oder einen Ausgangsstatus angeben.");
+                return "redirect:/applications";
+            }
+
+            redirectAttributes.addFlashAttribute("successMessage",
+                    updated + " Bewerbungen auf '" + status.getDisplayName() + "' gesetzt!");
+        } catch (Exception e) {
+            log.error("Error during bulk status update", e);
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Fehler beim Bulk-Status-Update: " + e.getMessage());
+        }
+
+        return "redirect:/applications";
+    }
+
+    // Status schnell ändern (AJAX aus app.js): kein Redirect, Zähler und Listen kommen per Live-Update
+    @PostMapping(path = "/{id}/status", headers = "X-Requested-With=XMLHttpRequest")
+    @ResponseBody
+    public ResponseEntity<ApplicationDTO> updateStatusAsync(
+            @PathVariable Long id,
+            @RequestParam ApplicationStatus status) {
+
+        log.info("Updating status (async) for application ID: {} to {}", id, status);
+
+        // Andere Fehler bleiben 500 - 400 nur für ungültige Eingaben
+        try {
+            Application updated = applicationService.updateStatus(id, status);
+            return ResponseEntity.ok(ApplicationDTO.from(updated));
+        } catch (ApplicationNotFoundException e) {
+            log.warn("Status update for unknown application {}", id);
+            return ResponseEntity.notFound().build();
+        } catch (ApplicationConflictException | OptimisticLockingFailureException e) {
+            log.warn("Conflict updating status of application {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid status update for application {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Status schnell ändern (Formular ohne JavaScript)
     @PostMapping("/{id}/status")
     public String updateStatus(
             @PathVariable Long id,
@@ -0,0 +1,209 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.dto.ApplicationEventDTO;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.event.ApplicationChangedEvent;
+import com.dave.smartapply.event.DeadlineReminderEvent;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live-Updates für Dashboard und Liste per Server-Sent Events.
+ * Änderungen aus dem ApplicationServiceImpl werden als "application"-Events
+ * an alle offenen Browser-Tabs verteilt; app.js aktualisiert daraufhin das DOM.
+ *
+ * <p>Alle Events laufen durch eine geordnete Warteschlange, die genau ein Task abarbeitet
+ * (Payload bauen, an die Clients verteilen). Jeder Client hat einen eigenen begrenzten
+ * Puffer, den ebenfalls genau ein Task in Reihenfolge sendet - ein langsamer Client hält
+ * die anderen nicht auf. Läuft sein Puffer über, wird die Verbindung beendet; EventSource
+ * baut sie neu auf und die Seite lädt den aktuellen Stand.
+ *
+ * <p>Verteilt werden nur Events dieser Instanz: bei mehreren Instanzen erreicht eine Änderung
+ * nur die Clients der Instanz, die sie geschrieben hat. Die anderen sehen sie beim nächsten
+ * Laden der Seite (siehe README, "Mehrere Instanzen").
+ */
+@RestController
+@Slf4j
+public class ApplicationEventsController {
+
+    // Nach Ablauf baut der Browser (EventSource) die Verbindung selbst neu auf
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    // Nicht gesendete Events je Client, bevor er als zu langsam gilt
+    private static final int CLIENT_BUFFER_SIZE = 32;
+
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+    private final Queue<Message> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+
+    private final ApplicationService applicationService;
+    private final TaskExecutor taskExecutor;
+
+    public ApplicationEventsController(ApplicationService applicationService,
+                                       @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.applicationService = applicationService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @GetMapping(path = "/applications/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        SseEmitter emitter = createEmitter();
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        log.debug("Live update client connected ({} open)", clients.size());
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MS);
+    }
+
+    // Versand asynchron, damit langsame Clients den schreibenden Request nicht aufhalten
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        enqueue(new Message("application", event));
+    }
+
+    @EventListener
+    public void onDeadlineReminder(DeadlineReminderEvent event) {
+        enqueue(new Message("deadline", event.getApplication()));
+    }
+
+    // Kommentarzeile hält Proxys offen und räumt abgebrochene Verbindungen auf
+    @Scheduled(fixedRate = 25_000)
+    public void heartbeat() {
+        enqueue(new Message(null, null));
+    }
+
+    private void enqueue(Message message) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        pending.add(message);
+        if (dispatching.compareAndSet(false, true)) {
+            taskExecutor.execute(this::dispatch);
+        }
+    }
+
+    // Läuft höchstens einmal gleichzeitig: Reihenfolge der Events bleibt erhalten
+    private void dispatch() {
+        do {
+            Message message;
+            while ((message = pending.poll()) != null) {
+                Message prepared = message.payload() instanceof ApplicationChangedEvent event
+                        ? new Message(message.name(), toPayload(event))
+                        : message;
+                clients.forEach(client -> client.offer(prepared));
+            }
+            dispatching.set(false);
+        } while (!pending.isEmpty() && dispatching.compareAndSet(false, true));
+    }
+
+    private ApplicationEventDTO toPayload(ApplicationChangedEvent event) {
+        ApplicationStatus status = event.getApplication() != null ? event.getApplication().getStatus() : null;
+        return new ApplicationEventDTO(
+                event.getType(),
+                event.getApplicationId(),
+                event.getApplication(),
+                status != null ? status.getDisplayName() : null,
+                event.getPreviousStatus(),
+                statistics());
+    }
+
+    // name = null: Keep-alive-Kommentar
+    private record Message(String name, Object payload) {
+    }
+
+    // Offene Verbindung mit eigenem Puffer; gesendet wird immer nur von einem Task
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final Queue<Message> buffer = new ArrayBlockingQueue<>(CLIENT_BUFFER_SIZE);
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(Message message) {
+            if (!buffer.offer(message)) {
+                log.debug("Dropping slow live update client ({} events buffered)", CLIENT_BUFFER_SIZE);
+                drop();
+                return;
+            }
+            if (sending.compareAndSet(false, true)) {
+                taskExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Message message;
+                while ((message = buffer.poll()) != null) {
+                    if (!send(message)) {
+                        buffer.clear();
+                        break;
+                    }
+                }
+                sending.set(false);
+            } while (!buffer.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        private boolean send(Message message) {
+            try {
+                if (message.name() == null) {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else {
+                    emitter.send(SseEmitter.event().name(message.name())
+                            .data(message.payload(), MediaType.APPLICATION_JSON));
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping live update client: {}", e.getMessage());
+                clients.remove(this);
+                return false;
+            }
+        }
+
+        private void drop() {
+            clients.remove(this);
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+
+    // Gleiche Zähler wie auf Dashboard und Liste (aus dem gecachten Status-Histogramm)
+    private Map<String, Long> statistics() {
+        ApplicationStatisticsDTO statistics = applicationService.getStatistics();
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("total", statistics.getTotalCount());
+        counts.put("active", statistics.getActiveCount());
+        counts.put("applied", statistics.getCount(ApplicationStatus.APPLIED));
+        counts.put("interview", statistics.getInterviewCount());
+        counts.put("offer", statistics.getCount(ApplicationStatus.OFFER_RECEIVED));
+        return counts;
+    }
+}
@@ -10,17 +10,20 @@ import com.dave.smartapply.service.ApplicationService;
 @RequiredArgsConstructor
 public class HomeController {
 
+    private static final int DASHBOARD_LIMIT = 5;
+
     private final ApplicationService applicationService;
 
     @GetMapping("/")
     public String home(Model model) {
         //Dashboard mit den neuesten/wichtigsten Infos
         model.addAttribute("recentApplications",
-                applicationService.getAllApplications().stream().limit(5).toList());
+                applicationService.getRecentApplications(DASHBOARD_LIMIT));
         model.addAttribute("openApplications",
-                applicationService.getOpenApplications().stream().limit(5).toList());
-        model.addAttribute("upcomingDeadLines",
-                applicationService.getUpcomingDeadlines(7));
+                applicationService.getOpenApplications(DASHBOARD_LIMIT));
+        model.addAttribute("upcomingDeadlines",
+                applicationService.getUpcomingDeadlines(7, DASHBOARD_LIMIT));
+        // Statistik-Karten rendert RenderedFragments (aus dem gecachten Status-Histogramm)
 
         return "index";
 
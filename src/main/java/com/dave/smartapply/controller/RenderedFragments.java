@@ -0,0 +1,77 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.config.CacheConfig;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Fertig gerenderte HTML-Fragmente, die auf vielen Seiten gleich aussehen
+ * (Statistik-Karten, Status-Auswahllisten). Aufruf aus den Templates per
+ * ${@renderedFragments...}. Mit smartapply.fragment-cache.enabled=true (Profil prod)
+ * werden sie gecacht; Statistik-Karten sind an den Änderungszähler gebunden
+ * und damit nach jeder Änderung automatisch neu.
+ */
+@Component("renderedFragments")
+public class RenderedFragments {
+
+    private static final String STATISTICS_TEMPLATE = "fragments/statistics";
+    private static final String STATUS_OPTIONS_TEMPLATE = "fragments/status-options";
+
+    private final SpringTemplateEngine templateEngine;
+    private final ApplicationService applicationService;
+    private final Cache cache;
+
+    public RenderedFragments(SpringTemplateEngine templateEngine,
+                             ApplicationService applicationService,
+                             CacheManager cacheManager,
+                             @Value("${smartapply.fragment-cache.enabled:false}") boolean enabled) {
+        this.templateEngine = templateEngine;
+        this.applicationService = applicationService;
+        this.cache = enabled ? cacheManager.getCache(CacheConfig.FRAGMENT_CACHE) : null;
+    }
+
+    // variant: dashboard | list
+    public String statistics(String variant) {
+        return render(STATISTICS_TEMPLATE, variant, variant + ":" + applicationService.getDataVersion(), () -> {
+            ApplicationStatisticsDTO statistics = applicationService.getStatistics();
+            return Map.of(
+                    "totalCount", statistics.getTotalCount(),
+                    "activeCount", statistics.getActiveCount(),
+                    "appliedCount", statistics.getCount(ApplicationStatus.APPLIED),
+                    "interviewCount", statistics.getInterviewCount(),
+                    "offerCount", statistics.getCount(ApplicationStatus.OFFER_RECEIVED));
+        });
+    }
+
+    // variant: filter | bulkSource | bulkTarget | select; selected = Name des vorausgewählten Status
+    public String statusOptions(String variant, String selected) {
+        String selectedName = selected == null ? "" : selected;
+        return render(STATUS_OPTIONS_TEMPLATE, variant, variant + ":" + selectedName, () -> Map.of(
+                "statuses", ApplicationStatus.values(),
+                "selected", selectedName));
+    }
+
+    private String render(String template, String fragment, String key, Supplier<Map<String, Object>> variables) {
+        if (cache == null) {
+            return process(template, fragment, variables.get());
+        }
+        return cache.get(template + "::" + key, () -> process(template, fragment, variables.get()));
+    }
+
+    private String process(String template, String fragment, Map<String, Object> variables) {
+        Context context = new Context(LocaleContextHolder.getLocale(), variables);
+        return templateEngine.process(template, Set.of(fragment), context);
+    }
+}
@@ -1,4 +1,75 @@
 package com.dave.smartapply.dto;
 
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Eingabedaten zum Anlegen einer Bewerbung (Import, API).
+ * Status und Bewerbungsdatum sind optional und werden beim Anlegen vorbelegt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ApplicationCreateDTO {
+
+    @NotBlank
+    @Size(max = 200)
+    private String companyName;
+
+    @NotBlank
+    @Size(max = 200)
+    private String position;
+
+    private ApplicationStatus status;
+
+    private LocalDate applicationDate;
+
+    private LocalDate deadline;
+
+    @Size(max = 100)
+    private String contactPerson;
+
+    @Email
+    @Size(max = 100)
+    private String contactEmail;
+
+    @Size(max = 100)
+    private String contactPhone;
+
+    @Size(max = 2000)
+    private String notes;
+
+    @Size(max = 500)
+    private String jobUrl;
+
+    @NotNull
+    @PositiveOrZero
+    private Integer salaryExpectation;
+
+    // Neue, noch nicht gespeicherte Entity; fehlende Vorbelegungen setzt der Aufrufer
+    public Application toApplication() {
+        Application application = new Application();
+        application.setCompanyName(companyName);
+        application.setPosition(position);
+        application.setStatus(status);
+        application.setApplicationDate(applicationDate);
+        application.setDeadline(deadline);
+        application.setContactPerson(contactPerson);
+        application.setContactEmail(contactEmail);
+        application.setContactPhone(contactPhone);
+        application.setNotes(notes);
+        application.setJobUrl(jobUrl);
+        application.setSalaryExpectation(salaryExpectation);
+        return application;
+    }
 }
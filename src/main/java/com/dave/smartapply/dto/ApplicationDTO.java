@@ -1,4 +1,59 @@
 package com.dave.smartapply.dto;
 
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Schlanke Lese-Projektion für Listen und Dashboard-Karten
+ * (ohne Notizen, Kontaktdaten und Zeitstempel).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class ApplicationDTO {
+
+    private Long id;
+
+    private String companyName;
+
+    private String position;
+
+    private ApplicationStatus status;
+
+    private LocalDate applicationDate;
+
+    private LocalDate deadline;
+
+    private String contactPerson;
+
+    private Integer salaryExpectation;
+
+    // Nur gesetzt, wo der Stand verglichen wird (DeadlineIndex); Listen-Projektionen lassen sie leer
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
+
+    public ApplicationDTO(Long id, String companyName, String position, ApplicationStatus status,
+                          LocalDate applicationDate, LocalDate deadline, String contactPerson,
+                          Integer salaryExpectation) {
+        this(id, companyName, position, status, applicationDate, deadline, contactPerson, salaryExpectation, null);
+    }
+
+    public static ApplicationDTO from(Application application) {
+        return new ApplicationDTO(
+                application.getId(),
+                application.getCompanyName(),
+                application.getPosition(),
+                application.getStatus(),
+                application.getApplicationDate(),
+                application.getDeadline(),
+                application.getContactPerson(),
+                application.getSalaryExpectation(),
+                application.getVersion());
+    }
 }
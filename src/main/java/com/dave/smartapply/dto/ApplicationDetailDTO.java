@@ -0,0 +1,72 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Vollständige Darstellung einer Bewerbung für die REST-API.
+ * version entspricht dem ETag und wird bei Änderungen als If-Match zurückgeschickt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationDetailDTO {
+
+    private Long id;
+
+    private String companyName;
+
+    private String position;
+
+    private ApplicationStatus status;
+
+    private LocalDate applicationDate;
+
+    private LocalDate deadline;
+
+    private String contactPerson;
+
+    private String contactEmail;
+
+    private String contactPhone;
+
+    private String notes;
+
+    private String jobUrl;
+
+    private Integer salaryExpectation;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime statusChangedAt;
+
+    private Long version;
+
+    public static ApplicationDetailDTO from(Application application) {
+        return new ApplicationDetailDTO(
+                application.getId(),
+                application.getCompanyName(),
+                application.getPosition(),
+                application.getStatus(),
+                application.getApplicationDate(),
+                application.getDeadline(),
+                application.getContactPerson(),
+                application.getContactEmail(),
+                application.getContactPhone(),
+                application.getNotes(),
+                application.getJobUrl(),
+                application.getSalaryExpectation(),
+                application.getCreatedAt(),
+                application.getUpdatedAt(),
+                application.getStatusChangedAt(),
+                application.getVersion());
+    }
+}
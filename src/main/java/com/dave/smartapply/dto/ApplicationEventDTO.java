@@ -0,0 +1,33 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.event.ApplicationChangedEvent;
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Payload der Live-Updates (/applications/events): die Änderung selbst plus
+ * die aktuellen Dashboard-Zähler, damit der Client nichts nachladen muss.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationEventDTO {
+
+    private ApplicationChangedEvent.Type type;
+
+    private Long id;
+
+    private ApplicationDTO application;
+
+    // Anzeigename des neuen Status (z.B. "Beworben")
+    private String statusLabel;
+
+    private ApplicationStatus previousStatus;
+
+    // total, active, applied, interview, offer
+    private Map<String, Long> statistics;
+}
@@ -0,0 +1,38 @@
+package com.dave.smartapply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ergebnis eines Bulk-Imports: fehlerhafte Zeilen werden gemeldet,
+ * brechen den Import aber nicht ab.
+ */
+@Data
+@NoArgsConstructor
+public class ApplicationImportResultDTO {
+
+    private long totalRows;
+
+    private long importedRows;
+
+    private long failedRows;
+
+    private List<RowError> errors = new ArrayList<>();
+
+    // true, wenn mehr Fehler auftraten als gemeldet werden
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        private long rowNumber;
+
+        private String message;
+    }
+}
@@ -0,0 +1,27 @@
+package com.dave.smartapply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Eine Seite der Keyset-Pagination über (applicationDate, id).
+ * Der Cursor zeigt auf den letzten Eintrag der Seite und wird als
+ * afterDate/afterId für die nächste Seite übergeben.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationPageDTO {
+
+    private List<ApplicationDTO> items;
+
+    private boolean hasNext;
+
+    private LocalDate nextAfterDate;
+
+    private Long nextAfterId;
+}
@@ -0,0 +1,47 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Status-Histogramm aller Bewerbungen – wird mit einer einzigen gruppierten
+ * Query geladen, alle Dashboard-Zähler werden daraus abgeleitet.
+ */
+@Getter
+public class ApplicationStatisticsDTO {
+
+    private final EnumMap<ApplicationStatus, Long> countsByStatus;
+
+    public ApplicationStatisticsDTO(Map<ApplicationStatus, Long> counts) {
+        this.countsByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            this.countsByStatus.put(status, counts.getOrDefault(status, 0L));
+        }
+    }
+
+    public long getCount(ApplicationStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+
+    public long getTotalCount() {
+        return countsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getActiveCount() {
+        return countsByStatus.entrySet().stream()
+                .filter(entry -> !entry.getKey().isClosed())
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    public long getClosedCount() {
+        return getTotalCount() - getActiveCount();
+    }
+
+    public long getInterviewCount() {
+        return getCount(ApplicationStatus.INTERVIEW_SCHEDULED) + getCount(ApplicationStatus.INTERVIEW_DONE);
+    }
+}
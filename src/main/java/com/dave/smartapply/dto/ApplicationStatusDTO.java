@@ -0,0 +1,19 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.model.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request-Body für den Statuswechsel über die REST-API.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusDTO {
+
+    @NotNull
+    private ApplicationStatus status;
+}
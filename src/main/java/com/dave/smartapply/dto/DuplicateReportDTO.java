@@ -0,0 +1,46 @@
+package com.dave.smartapply.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ergebnis des letzten Duplikat-Laufs: Gruppen von Bewerbungen mit gleichem Fingerabdruck
+ * (gleiche Firma, Position und Stellen-URL nach Normalisierung).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateReportDTO {
+
+    // null = noch kein Lauf seit dem Start
+    private LocalDateTime generatedAt;
+
+    private long clusterCount;
+
+    // Bewerbungen, die über die erste ihrer Gruppe hinaus existieren
+    private long duplicateCount;
+
+    private List<Cluster> clusters;
+
+    // true, wenn mehr Gruppen gefunden wurden als gemeldet werden
+    private boolean truncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+
+        private String companyName;
+
+        private String position;
+
+        private String jobUrl;
+
+        // Älteste zuerst
+        private List<Long> applicationIds;
+    }
+}
@@ -0,0 +1,56 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Funnel-Auswertung aus den Rollups: je Status, wie viele Bewerbungen ihn erreicht
+ * und wieder verlassen haben und wie lange sie im Schnitt darin lagen; je Übergang
+ * der Anteil an allen Ausgängen des Ausgangsstatus (Konversionsrate).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusFunnelDTO {
+
+    private List<Stage> stages;
+
+    private List<Transition> transitions;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Stage {
+
+        private ApplicationStatus status;
+
+        private long entered;
+
+        private long exited;
+
+        // null, solange noch keine Bewerbung den Status verlassen hat
+        private Double averageHoursInStage;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Transition {
+
+        // null = Anlage
+        private ApplicationStatus fromStatus;
+
+        private ApplicationStatus toStatus;
+
+        private long count;
+
+        // Anteil an allen Ausgängen aus fromStatus (bzw. an allen Anlagen)
+        private double rate;
+
+        private Double averageHoursInFromStatus;
+    }
+}
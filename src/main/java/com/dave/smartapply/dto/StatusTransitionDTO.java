@@ -0,0 +1,28 @@
+package com.dave.smartapply.dto;
+
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ein Eintrag der Statushistorie. fromStatus ist bei der Anlage null,
+ * secondsInPrevious = Verweildauer im vorherigen Status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionDTO {
+
+    private Long applicationId;
+
+    private ApplicationStatus fromStatus;
+
+    private ApplicationStatus toStatus;
+
+    private LocalDateTime changedAt;
+
+    private Long secondsInPrevious;
+}
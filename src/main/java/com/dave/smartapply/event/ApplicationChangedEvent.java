@@ -0,0 +1,37 @@
+package com.dave.smartapply.event;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Änderung an einer oder mehreren Bewerbungen. Wird vom ApplicationServiceImpl
+ * erst nach dem Commit veröffentlicht (z.B. für Live-Updates per SSE).
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class ApplicationChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED,
+        // Mengenänderung (Bulk-Update, Import) ohne Einzeldaten
+        BULK_UPDATED
+    }
+
+    private final Type type;
+
+    // null bei BULK_UPDATED
+    private final Long applicationId;
+
+    // Neuer Stand; null bei DELETED und BULK_UPDATED
+    private final ApplicationDTO application;
+
+    // Status vor der Änderung; null bei CREATED und BULK_UPDATED
+    private final ApplicationStatus previousStatus;
+}
@@ -0,0 +1,21 @@
+package com.dave.smartapply.event;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Wird einmal pro Bewerbung veröffentlicht, sobald ihre Deadline in das
+ * Erinnerungsfenster (smartapply.deadlines.reminder-days) rückt.
+ */
+@Getter
+@RequiredArgsConstructor
+@ToString
+public class DeadlineReminderEvent {
+
+    private final ApplicationDTO application;
+
+    // Verbleibende Tage bis zur Deadline (0 = heute)
+    private final long daysLeft;
+}
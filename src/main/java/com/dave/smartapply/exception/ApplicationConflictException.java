@@ -0,0 +1,23 @@
+package com.dave.smartapply.exception;
+
+import lombok.Getter;
+
+/**
+ * Die Bewerbung wurde seit dem Laden des Formulars von jemand anderem geändert
+ * (Version veraltet). Die Änderungen werden nicht blind überschrieben.
+ */
+@Getter
+public class ApplicationConflictException extends RuntimeException {
+
+    private final Long applicationId;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+
+    public ApplicationConflictException(Long applicationId, Long expectedVersion, Long currentVersion) {
+        super("Application " + applicationId + " was modified concurrently (expected version "
+                + expectedVersion + ", current version " + currentVersion + ")");
+        this.applicationId = applicationId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,17 @@
+package com.dave.smartapply.exception;
+
+import lombok.Getter;
+
+/**
+ * Zu der angegebenen ID existiert keine Bewerbung.
+ */
+@Getter
+public class ApplicationNotFoundException extends RuntimeException {
+
+    private final Long applicationId;
+
+    public ApplicationNotFoundException(Long applicationId) {
+        super("Application not found with id: " + applicationId);
+        this.applicationId = applicationId;
+    }
+}
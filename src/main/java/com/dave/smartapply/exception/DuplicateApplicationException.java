@@ -0,0 +1,18 @@
+package com.dave.smartapply.exception;
+
+import lombok.Getter;
+
+/**
+ * Es gibt bereits eine Bewerbung mit gleicher Firma, Position und Stellen-URL
+ * (gleicher Fingerabdruck, siehe ApplicationFingerprint).
+ */
+@Getter
+public class DuplicateApplicationException extends RuntimeException {
+
+    private final Long existingApplicationId;
+
+    public DuplicateApplicationException(Long existingApplicationId) {
+        super("Application is a duplicate of application " + existingApplicationId);
+        this.existingApplicationId = existingApplicationId;
+    }
+}
@@ -5,7 +5,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -15,14 +18,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_app_date_id", columnList = "application_date DESC, id DESC"),
+        @Index(name = "idx_applications_status_app_date", columnList = "status, application_date DESC, id DESC"),
+        @Index(name = "idx_applications_deadline_status", columnList = "deadline, status"),
+        @Index(name = "idx_applications_fingerprint", columnList = "fingerprint")
+})
+@DynamicUpdate
+// Second-Level-Cache, nur aktiv mit smartapply.second-level-cache.enabled=true (SecondLevelCacheConfig)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequenz mit Pooled-Allocation (50 IDs pro Roundtrip), ermöglicht JDBC-Batch-Inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -65,4 +79,30 @@ public class Application {
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    // Letzter Statuswechsel - Beginn der Verweildauer im aktuellen Status (StatusHistoryRecorder)
+    @Column(nullable = false)
+    private LocalDateTime statusChangedAt;
+
+    // Duplikatprüfung: normalisierter Hash aus Firma, Position und Stellen-URL, wird beim Speichern berechnet
+    @Column(length = ApplicationFingerprint.LENGTH)
+    private String fingerprint;
+
+    // Optimistic Locking: konkurrierende Änderungen werden erkannt statt still überschrieben
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @PrePersist
+    void onPersist() {
+        if (statusChangedAt == null) {
+            statusChangedAt = LocalDateTime.now();
+        }
+        updateFingerprint();
+    }
+
+    @PreUpdate
+    void updateFingerprint() {
+        fingerprint = ApplicationFingerprint.of(companyName, position, jobUrl);
+    }
 }
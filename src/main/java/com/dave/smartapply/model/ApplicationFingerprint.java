@@ -0,0 +1,89 @@
+package com.dave.smartapply.model;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Fingerabdruck für die Duplikatprüfung: SHA-256 (hex) über Firma, Position und Stellen-URL,
+ * jeweils normalisiert. Groß-/Kleinschreibung, Leerzeichen, "www.", http/https, abschließende
+ * Slashes, Anker und Tracking-Parameter spielen keine Rolle.
+ */
+public final class ApplicationFingerprint {
+
+    // Länge des Hex-Strings = Spaltenlänge applications.fingerprint
+    public static final int LENGTH = 64;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+            "ref", "refid", "source", "src", "trk", "trackingid", "gclid", "fbclid", "mc_cid", "mc_eid");
+
+    private ApplicationFingerprint() {
+    }
+
+    public static String of(String companyName, String position, String jobUrl) {
+        String key = normalizeText(companyName) + '\n' + normalizeText(position) + '\n' + canonicalUrl(jobUrl);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String normalizeText(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // Host (ohne www.) + Pfad (ohne abschließenden Slash) + sortierte Query ohne Tracking-Parameter
+    static String canonicalUrl(String jobUrl) {
+        if (jobUrl == null || jobUrl.isBlank()) {
+            return "";
+        }
+        String url = jobUrl.strip();
+        if (!url.contains("://")) {
+            url = "https://" + url;
+        }
+        try {
+            URI uri = new URI(url);
+            if (uri.getHost() == null) {
+                return normalizeText(jobUrl);
+            }
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            String query = uri.getRawQuery() == null ? "" : Arrays.stream(uri.getRawQuery().split("&"))
+                    .filter(parameter -> !parameter.isEmpty() && !isTracking(parameter))
+                    .sorted()
+                    .collect(Collectors.joining("&"));
+            return host + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (URISyntaxException e) {
+            return normalizeText(jobUrl);
+        }
+    }
+
+    private static boolean isTracking(String parameter) {
+        int separator = parameter.indexOf('=');
+        String name = (separator < 0 ? parameter : parameter.substring(0, separator)).toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || TRACKING_PARAMETERS.contains(name);
+    }
+}
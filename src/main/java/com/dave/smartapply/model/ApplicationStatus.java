@@ -1,5 +1,8 @@
 package com.dave.smartapply.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ApplicationStatus {
 
     DRAFT("Entwurf"),
@@ -10,6 +13,9 @@ public enum ApplicationStatus {
     ACCEPTED("Angenommen"),
     REJECTED("Abgelehnt");
 
+    // Abgeschlossene Bewerbungen (nicht mehr aktiv)
+    public static final Set<ApplicationStatus> CLOSED_STATUSES = EnumSet.of(ACCEPTED, REJECTED);
+
     private final String displayName;
 
     ApplicationStatus(String displayName) {
@@ -19,4 +25,8 @@ public enum ApplicationStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    public boolean isClosed() {
+        return CLOSED_STATUSES.contains(this);
+    }
 }
@@ -0,0 +1,227 @@
+package com.dave.smartapply.repository;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Archivtabelle applications_archive (V9__add_applications_archive.sql) per JDBC.
+ * Zeilen werden nur zwischen applications und dem Archiv verschoben (INSERT ... SELECT + DELETE),
+ * nie über Hibernate geladen - aus dem Archiv gelesene Bewerbungen sind nicht verwaltet.
+ */
+@Repository
+public class ApplicationArchiveRepository {
+
+    private static final String COLUMNS = "id, company_name, position, status, application_date, deadline, "
+            + "contact_person, contact_email, contact_phone, notes, job_url, salary_expectation, "
+            + "created_at, updated_at, status_changed_at, version, fingerprint";
+
+    // Spalten der ApplicationDTO (Listen und Suche)
+    private static final String DTO_COLUMNS = "id, company_name, position, status, application_date, deadline, "
+            + "contact_person, salary_expectation";
+
+    private static final String SEARCH_MATCH = "lower(company_name) LIKE :contains ESCAPE '\\' "
+            + "OR lower(position) LIKE :contains ESCAPE '\\' OR lower(notes) LIKE :contains ESCAPE '\\'";
+
+    // Gleiche Relevanz wie ApplicationRepository.searchSimple
+    private static final String SEARCH_ORDER = " ORDER BY CASE "
+            + "WHEN lower(company_name) = :term THEN 0 "
+            + "WHEN lower(company_name) LIKE :prefix ESCAPE '\\' THEN 1 "
+            + "WHEN lower(company_name) LIKE :contains ESCAPE '\\' THEN 2 "
+            + "WHEN lower(position) LIKE :contains ESCAPE '\\' THEN 3 "
+            + "ELSE 4 END, application_date DESC, id DESC";
+
+    // Wie die Export-Streams in ApplicationRepository
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+    public ApplicationArchiveRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getJdbcTemplate().getDataSource());
+        streaming.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    // Älteste Abschlüsse zuerst; die Zeilen bleiben bis zum Commit gesperrt
+    public List<Long> lockClosedBefore(Collection<ApplicationStatus> statuses, LocalDateTime closedBefore, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM applications "
+                        + "WHERE status IN (:statuses) AND status_changed_at < :closedBefore "
+                        + "ORDER BY status_changed_at, id FETCH FIRST :limit ROWS ONLY FOR UPDATE",
+                new MapSqlParameterSource()
+                        .addValue("statuses", statuses.stream().map(Enum::name).toList())
+                        .addValue("closedBefore", Timestamp.valueOf(closedBefore))
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    public int moveToArchive(Collection<Long> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int moved = jdbcTemplate.update("INSERT INTO applications_archive (" + COLUMNS + ", archived_at) "
+                + "SELECT " + COLUMNS + ", :archivedAt FROM applications WHERE id IN (:ids)", parameters);
+        jdbcTemplate.update("DELETE FROM applications WHERE id IN (:ids)", parameters);
+        return moved;
+    }
+
+    // Zurück in den aktiven Bestand (gleiche ID und Version); false, wenn die ID nicht archiviert ist
+    public boolean restore(Long id) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("id", id);
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT id FROM applications_archive WHERE id = :id FOR UPDATE", parameters, Long.class);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.update("INSERT INTO applications (" + COLUMNS + ") "
+                + "SELECT " + COLUMNS + " FROM applications_archive WHERE id = :id", parameters);
+        jdbcTemplate.update("DELETE FROM applications_archive WHERE id = :id", parameters);
+        return true;
+    }
+
+    public Optional<Application> findById(Long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM applications_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id), ApplicationArchiveRepository::toApplication).stream().findFirst();
+    }
+
+    public Optional<Long> findVersionById(Long id) {
+        return jdbcTemplate.queryForList("SELECT version FROM applications_archive WHERE id = :id",
+                new MapSqlParameterSource("id", id), Long.class).stream().findFirst();
+    }
+
+    public List<Long> findIdsByFingerprint(String fingerprint, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM applications_archive WHERE fingerprint = :fingerprint "
+                        + "ORDER BY id FETCH FIRST :limit ROWS ONLY",
+                new MapSqlParameterSource().addValue("fingerprint", fingerprint).addValue("limit", limit), Long.class);
+    }
+
+    // Kleinste ID je Fingerabdruck
+    public Map<String, Long> findIdsByFingerprints(Collection<String> fingerprints) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT fingerprint, MIN(id) AS id FROM applications_archive "
+                        + "WHERE fingerprint IN (:fingerprints) GROUP BY fingerprint",
+                new MapSqlParameterSource("fingerprints", fingerprints),
+                result -> {
+                    ids.put(result.getString("fingerprint"), result.getLong("id"));
+                });
+        return ids;
+    }
+
+    public Map<ApplicationStatus, Long> countGroupedByStatus() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        jdbcTemplate.query("SELECT status, COUNT(*) AS count FROM applications_archive GROUP BY status",
+                result -> {
+                    counts.put(ApplicationStatus.valueOf(result.getString("status")), result.getLong("count"));
+                });
+        return counts;
+    }
+
+    // Portable LIKE-Suche ohne Indizes: wird nur erreicht, wenn die aktiven Treffer erschöpft sind
+    public List<ApplicationDTO> search(String term, long offset, int limit) {
+        return jdbcTemplate.query("SELECT " + DTO_COLUMNS + " FROM applications_archive WHERE " + SEARCH_MATCH
+                        + SEARCH_ORDER + " OFFSET :offset ROWS FETCH FIRST :limit ROWS ONLY",
+                searchParameters(term).addValue("offset", offset).addValue("limit", limit),
+                ApplicationArchiveRepository::toApplicationDTO);
+    }
+
+    /**
+     * Keyset-Seite wie ApplicationRepository.findPage*: gleiche Sortierung und gleicher Cursor,
+     * damit der Aufrufer sie mit der Seite des aktiven Bestands zusammenführen kann.
+     * status und Cursor (afterDate/afterId) sind optional.
+     */
+    public List<ApplicationDTO> findPage(ApplicationStatus status, LocalDate afterDate, Long afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        List<String> conditions = new ArrayList<>(2);
+        if (status != null) {
+            conditions.add("status = :status");
+            parameters.addValue("status", status.name());
+        }
+        if (afterDate != null && afterId != null) {
+            conditions.add("(application_date < :afterDate OR (application_date = :afterDate AND id < :afterId))");
+            parameters.addValue("afterDate", Date.valueOf(afterDate)).addValue("afterId", afterId);
+        }
+        String where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return jdbcTemplate.query("SELECT " + DTO_COLUMNS + " FROM applications_archive" + where
+                        + " ORDER BY application_date DESC, id DESC FETCH FIRST :limit ROWS ONLY",
+                parameters, ApplicationArchiveRepository::toApplicationDTO);
+    }
+
+    // Export: Stream muss vom Aufrufer geschlossen werden; status und term sind optional
+    public Stream<Application> stream(ApplicationStatus status, String term) {
+        MapSqlParameterSource parameters = term != null ? searchParameters(term) : new MapSqlParameterSource();
+        String where = "";
+        if (status != null) {
+            where = " WHERE status = :status";
+            parameters.addValue("status", status.name());
+        } else if (term != null) {
+            where = " WHERE " + SEARCH_MATCH;
+        }
+        return streamingJdbcTemplate.queryForStream("SELECT " + COLUMNS + " FROM applications_archive" + where
+                + " ORDER BY application_date DESC, id DESC", parameters, ApplicationArchiveRepository::toApplication);
+    }
+
+    private static MapSqlParameterSource searchParameters(String term) {
+        return new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("prefix", LikePattern.escape(term) + "%")
+                .addValue("contains", "%" + LikePattern.escape(term) + "%");
+    }
+
+    private static ApplicationDTO toApplicationDTO(ResultSet result, int rowNumber) throws SQLException {
+        return new ApplicationDTO(
+                result.getLong("id"),
+                result.getString("company_name"),
+                result.getString("position"),
+                ApplicationStatus.valueOf(result.getString("status")),
+                result.getDate("application_date").toLocalDate(),
+                toLocalDate(result.getDate("deadline")),
+                result.getString("contact_person"),
+                result.getInt("salary_expectation"));
+    }
+
+    private static Application toApplication(ResultSet result, int rowNumber) throws SQLException {
+        Application application = new Application();
+        application.setId(result.getLong("id"));
+        application.setCompanyName(result.getString("company_name"));
+        application.setPosition(result.getString("position"));
+        application.setStatus(ApplicationStatus.valueOf(result.getString("status")));
+        application.setApplicationDate(result.getDate("application_date").toLocalDate());
+        application.setDeadline(toLocalDate(result.getDate("deadline")));
+        application.setContactPerson(result.getString("contact_person"));
+        application.setContactEmail(result.getString("contact_email"));
+        application.setContactPhone(result.getString("contact_phone"));
+        application.setNotes(result.getString("notes"));
+        application.setJobUrl(result.getString("job_url"));
+        application.setSalaryExpectation(result.getInt("salary_expectation"));
+        application.setCreatedAt(result.getTimestamp("created_at").toLocalDateTime());
+        application.setUpdatedAt(result.getTimestamp("updated_at").toLocalDateTime());
+        application.setStatusChangedAt(result.getTimestamp("status_changed_at").toLocalDateTime());
+        application.setVersion(result.getLong("version"));
+        application.setFingerprint(result.getString("fingerprint"));
+        return application;
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.dave.smartapply.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fingerabdrücke für den Duplikat-Report per JDBC: Nachtragen für Bestandszeilen
+ * (ohne Version und updatedAt zu ändern) und gruppierte Suche nach mehrfach vergebenen Werten.
+ * Mit includeArchive bzw. archived werden applications und applications_archive gemeinsam
+ * bzw. das Archiv statt des aktiven Bestands gelesen.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationFingerprintRepository {
+
+    private static final String ACTIVE = "applications";
+
+    private static final String ARCHIVE = "applications_archive";
+
+    // IDs sind über beide Tabellen eindeutig (gleiche Sequenz), eine Bewerbung steht nur in einer
+    private static final String ACTIVE_AND_ARCHIVE = "(SELECT id, company_name, position, job_url, fingerprint "
+            + "FROM applications UNION ALL SELECT id, company_name, position, job_url, fingerprint "
+            + "FROM applications_archive) a";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<FingerprintSource> findWithoutFingerprint(boolean archived, int limit) {
+        return jdbcTemplate.query("SELECT id, company_name, position, job_url FROM " + table(archived)
+                        + " WHERE fingerprint IS NULL ORDER BY id FETCH FIRST :limit ROWS ONLY",
+                new MapSqlParameterSource("limit", limit),
+                (result, rowNumber) -> new FingerprintSource(
+                        result.getLong("id"),
+                        result.getString("company_name"),
+                        result.getString("position"),
+                        result.getString("job_url")));
+    }
+
+    public void updateFingerprints(boolean archived, Map<Long, String> fingerprints) {
+        jdbcTemplate.batchUpdate("UPDATE " + table(archived) + " SET fingerprint = :fingerprint WHERE id = :id",
+                fingerprints.entrySet().stream()
+                        .map(entry -> new MapSqlParameterSource()
+                                .addValue("id", entry.getKey())
+                                .addValue("fingerprint", entry.getValue()))
+                        .toArray(MapSqlParameterSource[]::new));
+    }
+
+    // Keyset über den Fingerabdruck: Batch für Batch, ohne OFFSET
+    public List<String> findDuplicateFingerprints(boolean includeArchive, String after, int limit) {
+        return jdbcTemplate.queryForList("SELECT fingerprint FROM " + source(includeArchive)
+                        + " WHERE fingerprint > :after GROUP BY fingerprint HAVING COUNT(*) > 1 "
+                        + "ORDER BY fingerprint FETCH FIRST :limit ROWS ONLY",
+                new MapSqlParameterSource().addValue("after", after).addValue("limit", limit),
+                String.class);
+    }
+
+    public List<ClusterMember> findByFingerprints(boolean includeArchive, Collection<String> fingerprints) {
+        return jdbcTemplate.query("SELECT fingerprint, id, company_name, position, job_url FROM "
+                        + source(includeArchive) + " WHERE fingerprint IN (:fingerprints) ORDER BY fingerprint, id",
+                new MapSqlParameterSource("fingerprints", fingerprints),
+                (result, rowNumber) -> new ClusterMember(
+                        result.getString("fingerprint"),
+                        result.getLong("id"),
+                        result.getString("company_name"),
+                        result.getString("position"),
+                        result.getString("job_url")));
+    }
+
+    private static String table(boolean archived) {
+        return archived ? ARCHIVE : ACTIVE;
+    }
+
+    private static String source(boolean includeArchive) {
+        return includeArchive ? ACTIVE_AND_ARCHIVE : ACTIVE;
+    }
+
+    public record FingerprintSource(Long id, String companyName, String position, String jobUrl) {
+    }
+
+    public record ClusterMember(String fingerprint, Long id, String companyName, String position, String jobUrl) {
+    }
+}
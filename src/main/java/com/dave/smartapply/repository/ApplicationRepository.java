@@ -1,23 +1,39 @@
 package com.dave.smartapply.repository;
 
+import com.dave.smartapply.dto.ApplicationDTO;
 import com.dave.smartapply.model.Application;
 import com.dave.smartapply.model.ApplicationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
-    //Alle Bewerbungen finden nach Status
+    //Alle Bewerbungen finden nach Status (Query-Cache, falls aktiviert)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Application> findByStatus(ApplicationStatus status);
 
     //Alle Bewerbungen nach Firma
     List<Application> findByCompanyNameContainingIgnoreCase(String companyName);
 
     //Alle Bewerbungen mit Deadline vor einem bestimmten Datum
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Application> findByDeadlineBefore(LocalDate date);
 
     //Alle Bewerbungen sortiert nach Datum
@@ -27,6 +43,195 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Long countByStatus(ApplicationStatus status);
 
     //Query: Finde alle offenen Bewerbungen (nicht rejected/accepted)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Application> findByStatusNotInOrderByApplicationDateDesc(List<ApplicationStatus> statuses);
 
+    //Nur die Version einer Bewerbung (Primärschlüssel-Lookup, z.B. für ETags)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT a.version FROM Application a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    //Duplikatprüfung: Lookup über den Fingerprint-Index statt Suche nach Firmennamen
+    @Query("SELECT a.id FROM Application a WHERE a.fingerprint = :fingerprint ORDER BY a.id")
+    List<Long> findIdsByFingerprint(@Param("fingerprint") String fingerprint, Limit limit);
+
+    @Query("SELECT a.fingerprint AS fingerprint, a.id AS id FROM Application a WHERE a.fingerprint IN :fingerprints")
+    List<FingerprintMatch> findByFingerprintIn(@Param("fingerprints") Collection<String> fingerprints);
+
+    //Status-Histogramm: alle Zähler mit einer einzigen gruppierten Query
+    @Query("SELECT a.status AS status, COUNT(a) AS count FROM Application a GROUP BY a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    //Keyset-Pagination über (applicationDate, id) mit schlanker DTO-Projektion
+    String PAGE_PROJECTION = "SELECT new com.dave.smartapply.dto.ApplicationDTO(a.id, a.companyName, a.position, a.status, " +
+            "a.applicationDate, a.deadline, a.contactPerson, a.salaryExpectation) FROM Application a ";
+
+    String PAGE_ORDER = " ORDER BY a.applicationDate DESC, a.id DESC";
+
+    String PAGE_AFTER = "(a.applicationDate < :afterDate OR (a.applicationDate = :afterDate AND a.id < :afterId))";
+
+    @Query(PAGE_PROJECTION + PAGE_ORDER)
+    List<ApplicationDTO> findPage(Limit limit);
+
+    @Query(PAGE_PROJECTION + "WHERE " + PAGE_AFTER + PAGE_ORDER)
+    List<ApplicationDTO> findPageAfter(@Param("afterDate") LocalDate afterDate,
+                                       @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    @Query(PAGE_PROJECTION + "WHERE a.status = :status" + PAGE_ORDER)
+    List<ApplicationDTO> findPageByStatus(@Param("status") ApplicationStatus status, Limit limit);
+
+    @Query(PAGE_PROJECTION + "WHERE a.status = :status AND " + PAGE_AFTER + PAGE_ORDER)
+    List<ApplicationDTO> findPageByStatusAfter(@Param("status") ApplicationStatus status,
+                                               @Param("afterDate") LocalDate afterDate,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
+
+    //Top-N Queries für das Dashboard (LIMIT in der Datenbank)
+    @Query(PAGE_PROJECTION + "WHERE a.status NOT IN :closedStatuses" + PAGE_ORDER)
+    List<ApplicationDTO> findOpenPage(@Param("closedStatuses") Collection<ApplicationStatus> closedStatuses, Limit limit);
+
+    //Offene Bewerbungen mit Deadline von :from bis :to (mit Version) - Grundlage des DeadlineIndex
+    @Query("SELECT new com.dave.smartapply.dto.ApplicationDTO(a.id, a.companyName, a.position, a.status, " +
+            "a.applicationDate, a.deadline, a.contactPerson, a.salaryExpectation, a.version) FROM Application a " +
+            "WHERE a.deadline BETWEEN :from AND :to AND a.status NOT IN :closedStatuses ORDER BY a.deadline ASC, a.id ASC")
+    List<ApplicationDTO> findOpenDeadlinesBetween(@Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to,
+                                                  @Param("closedStatuses") Collection<ApplicationStatus> closedStatuses);
+
+    //Deadlines jenseits des Horizonts des DeadlineIndex (begrenzt per Limit)
+    @Query("SELECT new com.dave.smartapply.dto.ApplicationDTO(a.id, a.companyName, a.position, a.status, " +
+            "a.applicationDate, a.deadline, a.contactPerson, a.salaryExpectation, a.version) FROM Application a " +
+            "WHERE a.deadline BETWEEN :from AND :to AND a.status NOT IN :closedStatuses ORDER BY a.deadline ASC, a.id ASC")
+    List<ApplicationDTO> findOpenDeadlinesBetween(@Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to,
+                                                  @Param("closedStatuses") Collection<ApplicationStatus> closedStatuses,
+                                                  Limit limit);
+
+    //Überfällige Bewerbungen vor dem Fenster des DeadlineIndex, älteste zuerst (begrenzt per Limit)
+    @Query(PAGE_PROJECTION + "WHERE a.deadline < :before AND a.status NOT IN :closedStatuses ORDER BY a.deadline ASC, a.id ASC")
+    List<ApplicationDTO> findOpenDeadlinesBefore(@Param("before") LocalDate before,
+                                                 @Param("closedStatuses") Collection<ApplicationStatus> closedStatuses,
+                                                 Limit limit);
+
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.deadline < :before AND a.status NOT IN :closedStatuses")
+    long countOpenDeadlinesBefore(@Param("before") LocalDate before,
+                                  @Param("closedStatuses") Collection<ApplicationStatus> closedStatuses);
+
+    //Suche (portabel): LIKE über Firma, Position und Notizen, Relevanz per CASE
+    //:pattern = Suchbegriff mit maskiertem % und _ (LikePattern.escape)
+    @Query(PAGE_PROJECTION +
+            "WHERE LOWER(a.companyName) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.position) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.notes) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "ORDER BY CASE " +
+            "WHEN LOWER(a.companyName) = :term THEN 0 " +
+            "WHEN LOWER(a.companyName) LIKE CONCAT(:pattern, '%') ESCAPE '\\' THEN 1 " +
+            "WHEN LOWER(a.companyName) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' THEN 2 " +
+            "WHEN LOWER(a.position) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' THEN 3 " +
+            "ELSE 4 END, a.applicationDate DESC, a.id DESC")
+    Slice<ApplicationDTO> searchSimple(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM Application a " +
+            "WHERE LOWER(a.companyName) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.position) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.notes) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\'")
+    long countSimple(@Param("pattern") String pattern);
+
+    //Suche (PostgreSQL): Trigram- und tsvector-Indizes, Ranking über similarity + ts_rank
+    String SEARCH_DOCUMENT = "to_tsvector('simple', coalesce(company_name, '') || ' ' || " +
+            "coalesce(position, '') || ' ' || coalesce(notes, ''))";
+
+    @Query(nativeQuery = true, value =
+            "SELECT id, company_name AS \"companyName\", position, status, application_date AS \"applicationDate\", " +
+            "deadline, contact_person AS \"contactPerson\", salary_expectation AS \"salaryExpectation\" " +
+            "FROM applications " +
+            "WHERE lower(company_name) LIKE '%' || :pattern || '%' ESCAPE '\\' " +
+            "OR lower(position) LIKE '%' || :pattern || '%' ESCAPE '\\' " +
+            "OR " + SEARCH_DOCUMENT + " @@ plainto_tsquery('simple', :term) " +
+            "ORDER BY greatest(similarity(lower(company_name), :term), similarity(lower(position), :term)) " +
+            "+ ts_rank(" + SEARCH_DOCUMENT + ", plainto_tsquery('simple', :term)) DESC, " +
+            "application_date DESC, id DESC")
+    Slice<SearchHit> searchRanked(@Param("term") String term, @Param("pattern") String pattern, Pageable pageable);
+
+    @Query(nativeQuery = true, value =
+            "SELECT COUNT(*) FROM applications " +
+            "WHERE lower(company_name) LIKE '%' || :pattern || '%' ESCAPE '\\' " +
+            "OR lower(position) LIKE '%' || :pattern || '%' ESCAPE '\\' " +
+            "OR " + SEARCH_DOCUMENT + " @@ plainto_tsquery('simple', :term)")
+    long countRanked(@Param("term") String term, @Param("pattern") String pattern);
+
+    //Export: serverseitiger Cursor mit Fetch-Size statt kompletter Liste
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a ORDER BY a.applicationDate DESC, a.id DESC")
+    Stream<Application> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a WHERE a.status = :status ORDER BY a.applicationDate DESC, a.id DESC")
+    Stream<Application> streamByStatus(@Param("status") ApplicationStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Application a " +
+            "WHERE LOWER(a.companyName) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.position) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "OR LOWER(a.notes) LIKE CONCAT('%', :pattern, '%') ESCAPE '\\' " +
+            "ORDER BY a.applicationDate DESC, a.id DESC")
+    Stream<Application> streamBySearchTerm(@Param("pattern") String pattern);
+
+    //Bulk-Statuswechsel als ein einziges UPDATE je Filter bzw. ID-Chunk; die Historie schreibt StatusHistoryRecorder
+    //vorher per INSERT ... SELECT mit demselben Filter (updatedAt/version werden explizit gesetzt, @UpdateTimestamp/@Version greifen hier nicht)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :newStatus, a.statusChangedAt = :now, a.updatedAt = :now, " +
+            "a.version = a.version + 1 WHERE a.id IN :ids AND a.status <> :newStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("newStatus") ApplicationStatus newStatus,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Application a SET a.status = :newStatus, a.statusChangedAt = :now, a.updatedAt = :now, " +
+            "a.version = a.version + 1 WHERE a.status = :currentStatus AND a.applicationDate <= :appliedOnOrBefore")
+    int updateStatusByStatusAndApplicationDate(@Param("currentStatus") ApplicationStatus currentStatus,
+                                               @Param("appliedOnOrBefore") LocalDate appliedOnOrBefore,
+                                               @Param("newStatus") ApplicationStatus newStatus,
+                                               @Param("now") LocalDateTime now);
+
+    interface SearchHit {
+        Long getId();
+
+        String getCompanyName();
+
+        String getPosition();
+
+        String getStatus();
+
+        LocalDate getApplicationDate();
+
+        LocalDate getDeadline();
+
+        String getContactPerson();
+
+        Integer getSalaryExpectation();
+    }
+
+    interface FingerprintMatch {
+        String getFingerprint();
+
+        Long getId();
+    }
+
+    interface StatusCount {
+        ApplicationStatus getStatus();
+
+        Long getCount();
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.dave.smartapply.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Einzeilige Tabelle data_change_counter (V17__add_data_change_counter.sql) per JDBC.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataChangeCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void increment() {
+        jdbcTemplate.update("UPDATE data_change_counter SET version = version + 1 WHERE id = 1");
+    }
+
+    public long current() {
+        return jdbcTemplate.queryForObject("SELECT version FROM data_change_counter WHERE id = 1", Long.class);
+    }
+}
@@ -0,0 +1,15 @@
+package com.dave.smartapply.repository;
+
+/**
+ * Suchbegriffe für LIKE: % und _ aus der Benutzereingabe werden wörtlich gesucht.
+ * Die Queries verwenden dazu ESCAPE '\'.
+ */
+public final class LikePattern {
+
+    private LikePattern() {
+    }
+
+    public static String escape(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,185 @@
+package com.dave.smartapply.repository;
+
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statushistorie und Rollups (V8__add_status_history.sql) per JDBC: die Historie wird nur
+ * angehängt (Batch-INSERT bzw. INSERT ... SELECT), die Rollups werden nur hochgezählt
+ * (Batch-UPDATE). Einträge mit rolled_up = FALSE (V13) sind noch nicht in den Rollups.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatusHistoryRepository {
+
+    // from_status der Rollups für angelegte Bewerbungen
+    private static final String CREATED = "NEW";
+
+    private static final String INSERT_HISTORY = "INSERT INTO application_status_history "
+            + "(application_id, from_status, to_status, changed_at, seconds_in_previous) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INCREMENT_ROLLUP = "UPDATE application_status_rollup "
+            + "SET transitions = transitions + ?, total_seconds = total_seconds + ? "
+            + "WHERE from_status = ? AND to_status = ?";
+
+    private static final String INSERT_ROLLUP = "INSERT INTO application_status_rollup "
+            + "(from_status, to_status, transitions, total_seconds) VALUES (?, ?, ?, ?)";
+
+    // Wechsel aller Zeilen eines Filters in einem Statement; Verweildauer wie StatusHistoryRecorder (ganze Sekunden)
+    private static final String INSERT_HISTORY_SELECT = "INSERT INTO application_status_history "
+            + "(application_id, from_status, to_status, changed_at, seconds_in_previous) "
+            + "SELECT id, status, :newStatus, :now, GREATEST(0, CAST(FLOOR("
+            + "EXTRACT(EPOCH FROM CAST(:now AS TIMESTAMP)) - EXTRACT(EPOCH FROM status_changed_at)) AS BIGINT)) "
+            + "FROM applications WHERE ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(List<StatusTransitionDTO> transitions) {
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, transitions, transitions.size(), (statement, transition) -> {
+            statement.setLong(1, transition.getApplicationId());
+            statement.setString(2, transition.getFromStatus() != null ? transition.getFromStatus().name() : null);
+            statement.setString(3, transition.getToStatus().name());
+            statement.setTimestamp(4, Timestamp.valueOf(transition.getChangedAt()));
+            statement.setObject(5, transition.getSecondsInPrevious());
+        });
+    }
+
+    // Vor dem UPDATE eines Bulk-Statuswechsels, mit demselben Filter und Zeitpunkt
+    public int insertForIds(Collection<Long> ids, ApplicationStatus newStatus, LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(INSERT_HISTORY_SELECT + "id IN (:ids) AND status <> :newStatus",
+                bulkParameters(newStatus, now).addValue("ids", ids));
+    }
+
+    public int insertForStatusAndApplicationDate(ApplicationStatus currentStatus, LocalDate appliedOnOrBefore,
+                                                 ApplicationStatus newStatus, LocalDateTime now) {
+        return namedParameterJdbcTemplate.update(INSERT_HISTORY_SELECT
+                        + "status = :currentStatus AND application_date <= :appliedOnOrBefore",
+                bulkParameters(newStatus, now)
+                        .addValue("currentStatus", currentStatus.name())
+                        .addValue("appliedOnOrBefore", Date.valueOf(appliedOnOrBefore)));
+    }
+
+    /**
+     * Sperrt die ältesten noch nicht aufsummierten Einträge. Parallele Läufe (mehrere
+     * Instanzen) warten auf die Sperren und sehen die Einträge danach als erledigt.
+     */
+    public List<PendingTransition> lockPending(int limit) {
+        return jdbcTemplate.query("SELECT id, application_id, from_status, to_status, changed_at, seconds_in_previous "
+                        + "FROM application_status_history WHERE NOT rolled_up "
+                        + "ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE",
+                (result, rowNumber) -> new PendingTransition(result.getLong("id"), toTransition(result)),
+                limit);
+    }
+
+    public void markRolledUp(Collection<Long> ids) {
+        namedParameterJdbcTemplate.update("UPDATE application_status_history SET rolled_up = TRUE WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Zählt die Rollups je Übergang hoch. Die Zeilen werden in fester Reihenfolge gesperrt,
+     * damit sich parallele Transaktionen nicht gegenseitig blockieren.
+     */
+    public void addToRollup(List<StatusTransitionDTO> transitions) {
+        Map<String, long[]> increments = new TreeMap<>();
+        for (StatusTransitionDTO transition : transitions) {
+            String from = transition.getFromStatus() != null ? transition.getFromStatus().name() : CREATED;
+            long[] increment = increments.computeIfAbsent(from + ">" + transition.getToStatus().name(),
+                    key -> new long[2]);
+            increment[0]++;
+            increment[1] += transition.getSecondsInPrevious() != null ? transition.getSecondsInPrevious() : 0;
+        }
+
+        List<Object[]> rows = new ArrayList<>(increments.size());
+        increments.forEach((key, increment) -> {
+            String[] statuses = key.split(">");
+            rows.add(new Object[]{increment[0], increment[1], statuses[0], statuses[1]});
+        });
+        int[] updated = jdbcTemplate.batchUpdate(INCREMENT_ROLLUP, rows);
+
+        // Nur für Status, die nach der Migration hinzugekommen sind
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Object[] row = rows.get(i);
+                jdbcTemplate.update(INSERT_ROLLUP, row[2], row[3], row[0], row[1]);
+            }
+        }
+    }
+
+    public List<StatusTransitionDTO> findByApplicationId(Long applicationId) {
+        return jdbcTemplate.query("SELECT application_id, from_status, to_status, changed_at, seconds_in_previous "
+                        + "FROM application_status_history WHERE application_id = ? ORDER BY changed_at, id",
+                (result, rowNumber) -> toTransition(result),
+                applicationId);
+    }
+
+    /**
+     * Rollups plus die noch nicht aufsummierten Einträge, in einem Statement (gleicher Stand).
+     * Höchstens (Anzahl Status + 1) x Anzahl Status Zeilen; gelesen wird von der Historie nur
+     * der Rückstand des Batchers.
+     */
+    public List<RollupRow> findRollup() {
+        return jdbcTemplate.query("SELECT from_status, to_status, SUM(transitions) AS transitions, "
+                + "SUM(total_seconds) AS total_seconds FROM ("
+                + "SELECT from_status, to_status, transitions, total_seconds "
+                + "FROM application_status_rollup WHERE transitions > 0 "
+                + "UNION ALL "
+                + "SELECT COALESCE(from_status, '" + CREATED + "') AS from_status, to_status, "
+                + "COUNT(*) AS transitions, COALESCE(SUM(seconds_in_previous), 0) AS total_seconds "
+                + "FROM application_status_history WHERE NOT rolled_up GROUP BY from_status, to_status"
+                + ") combined GROUP BY from_status, to_status", StatusHistoryRepository::toRollupRow);
+    }
+
+    private static MapSqlParameterSource bulkParameters(ApplicationStatus newStatus, LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("newStatus", newStatus.name())
+                .addValue("now", Timestamp.valueOf(now));
+    }
+
+    private static StatusTransitionDTO toTransition(ResultSet result) throws SQLException {
+        return new StatusTransitionDTO(
+                result.getLong("application_id"),
+                toStatus(result.getString("from_status")),
+                toStatus(result.getString("to_status")),
+                result.getTimestamp("changed_at").toLocalDateTime(),
+                (Long) result.getObject("seconds_in_previous", Long.class));
+    }
+
+    private static RollupRow toRollupRow(ResultSet result, int rowNumber) throws SQLException {
+        String from = result.getString("from_status");
+        return new RollupRow(
+                CREATED.equals(from) ? null : toStatus(from),
+                toStatus(result.getString("to_status")),
+                result.getLong("transitions"),
+                result.getLong("total_seconds"));
+    }
+
+    private static ApplicationStatus toStatus(String name) {
+        return name != null ? ApplicationStatus.valueOf(name) : null;
+    }
+
+    public record PendingTransition(long id, StatusTransitionDTO transition) {
+    }
+
+    // fromStatus null = Anlage
+    public record RollupRow(ApplicationStatus fromStatus, ApplicationStatus toStatus, long transitions, long totalSeconds) {
+    }
+}
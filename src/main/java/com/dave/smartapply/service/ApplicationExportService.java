@@ -0,0 +1,38 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.model.ApplicationStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public interface ApplicationExportService {
+
+    // Schreibt alle passenden Bewerbungen zeilenweise über einen Datenbank-Cursor in den Stream
+    long exportApplications(ApplicationStatus status, String search, Format format, OutputStream output) throws IOException;
+
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String fileExtension;
+
+        Format(String contentType, String fileExtension) {
+            this.contentType = contentType;
+            this.fileExtension = fileExtension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getFileExtension() {
+            return fileExtension;
+        }
+
+        public static Format fromParameter(String value) {
+            return value != null && value.toLowerCase(Locale.ROOT).contains("json") ? NDJSON : CSV;
+        }
+    }
+}
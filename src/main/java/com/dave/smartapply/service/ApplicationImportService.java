@@ -0,0 +1,24 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationImportResultDTO;
+
+import java.io.InputStream;
+import java.util.Locale;
+
+public interface ApplicationImportService {
+
+    // Streamt die Datei zeilenweise, validiert und speichert in Chunks (JDBC-Batching)
+    ApplicationImportResultDTO importApplications(InputStream input, Format format);
+
+    enum Format {
+        CSV,
+        JSON;
+
+        public static Format fromFilename(String filename) {
+            if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+                return JSON;
+            }
+            return CSV;
+        }
+    }
+}
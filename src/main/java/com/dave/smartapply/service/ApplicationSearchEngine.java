@@ -0,0 +1,18 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Volltextsuche über Firma, Position und Notizen, nach Relevanz sortiert.
+ * Die Implementierung wird in {@link com.dave.smartapply.config.SearchConfig}
+ * passend zur Datenbank gewählt.
+ */
+public interface ApplicationSearchEngine {
+
+    Slice<ApplicationDTO> search(String term, Pageable pageable);
+
+    // Anzahl aller Treffer (nur nötig, um dahinter archivierte Treffer anzuhängen)
+    long count(String term);
+}
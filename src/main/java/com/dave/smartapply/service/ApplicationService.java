@@ -1,9 +1,15 @@
 package com.dave.smartapply.service;
 
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
 import com.dave.smartapply.model.Application;
 import com.dave.smartapply.model.ApplicationStatus;
 
+import org.springframework.data.domain.Slice;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,21 +26,62 @@ public interface ApplicationService {
 
     List<Application> getAllApplications();
 
+    // Nur die Version (für ETag-Prüfungen ohne die ganze Zeile zu laden)
+    Optional<Long> getApplicationVersion(Long id);
+
+    // Lokaler Zähler dieser Instanz, steigt nach jeder bestätigten Änderung - Schlüssel für In-Memory-Caches
+    long getDataVersion();
+
+    // Änderungszähler in der Datenbank (eine Zeile) - Grundlage für ETags von Listen
+    // und Statistiken, auf allen Instanzen und über Neustarts hinweg gleich
+    String getDataState();
+
+    // Keyset-Pagination: afterDate/afterId = Cursor der vorherigen Seite (null für die erste Seite)
+    ApplicationPageDTO getApplicationPage(ApplicationStatus status, LocalDate afterDate, Long afterId, int size);
+
     // Business Logic
     List<Application> getApplicationsByStatus(ApplicationStatus status);
 
     List<Application> searchByCompanyName(String companyName);
 
+    // Relevanz-sortierte Suche über Firma, Position und Notizen (seitenweise)
+    Slice<ApplicationDTO> searchApplications(String term, int page, int size);
+
+    // Offene Bewerbungen mit Deadline zwischen heute und heute + days
     List<Application> getUpcomingDeadlines(int days);
 
     List<Application> getOpenApplications();
 
+    // Dashboard: begrenzte Top-N Abfragen
+    List<ApplicationDTO> getRecentApplications(int limit);
+
+    List<ApplicationDTO> getOpenApplications(int limit);
+
+    List<ApplicationDTO> getUpcomingDeadlines(int days, int limit);
+
+    // Offene Bewerbungen mit abgelaufener Deadline, älteste zuerst
+    List<ApplicationDTO> getOverdueDeadlines(int limit);
+
     Long getCountByStatus(ApplicationStatus status);
 
     Application updateStatus(Long id, ApplicationStatus newStatus);
 
+    // expectedVersion = Stand des Aufrufers (z.B. If-Match), wird in der Transaktion geprüft; null = ohne Prüfung
+    Application updateStatus(Long id, ApplicationStatus newStatus, Long expectedVersion);
+
+    // Bulk-Statuswechsel: liefert die Anzahl geänderter Bewerbungen
+    int bulkUpdateStatus(Collection<Long> ids, ApplicationStatus newStatus);
+
+    int bulkUpdateStatus(ApplicationStatus currentStatus, int olderThanDays, ApplicationStatus newStatus);
+
     // Statistics
     long getTotalApplications();
 
     long getActiveApplications();
+
+    long getClosedApplications();
+
+    long getOverdueApplications();
+
+    ApplicationStatisticsDTO getStatistics();
 }
@@ -0,0 +1,15 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.DuplicateReportDTO;
+
+public interface DuplicateReportService {
+
+    // Trägt fehlende Fingerabdrücke nach und sucht Duplikat-Gruppen, jeweils in Batches
+    DuplicateReportDTO generateReport();
+
+    // Nur das Nachtragen fehlender Fingerabdrücke (beim Start, damit die Duplikatprüfung den Bestand sofort kennt)
+    int backfillFingerprints();
+
+    // Ergebnis des letzten Laufs (ohne Datenbankzugriff)
+    DuplicateReportDTO getLatestReport();
+}
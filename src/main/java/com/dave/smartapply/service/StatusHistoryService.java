@@ -0,0 +1,15 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.StatusFunnelDTO;
+import com.dave.smartapply.dto.StatusTransitionDTO;
+
+import java.util.List;
+
+public interface StatusHistoryService {
+
+    // Alle Statuswechsel einer Bewerbung in zeitlicher Reihenfolge (auch nach dem Löschen)
+    List<StatusTransitionDTO> getHistory(Long applicationId);
+
+    // Funnel und Verweildauer je Status aus den Rollups - Aufwand unabhängig von der Länge der Historie
+    StatusFunnelDTO getFunnel();
+}
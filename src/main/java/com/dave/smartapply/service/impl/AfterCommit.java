@@ -0,0 +1,27 @@
+package com.dave.smartapply.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Führt Aktionen auf In-Memory-Strukturen (Caches, Indizes) erst nach dem Commit aus,
+ * damit ein Rollback dort keine Änderungen hinterlässt. Ohne Transaktion sofort.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationArchiveRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Aufteilung in aktiven (heißen) und archivierten (kalten) Bestand: Bewerbungen, die seit
+ * smartapply.archive.closed-for abgeschlossen sind, wandern nach applications_archive.
+ * applications und ihre Indizes enthalten damit nur noch den Arbeitsbestand.
+ *
+ * <p>Detailansicht, Version (ETag), Liste (ungefiltert und für abgeschlossene Status), Suche,
+ * Statistik und Export lesen das Archiv mit;
+ * wird eine archivierte Bewerbung geändert oder gelöscht, holt {@link #restore} sie vorher
+ * in den aktiven Bestand zurück. Ohne smartapply.archive.enabled=true wird das Archiv
+ * weder befüllt noch gelesen.
+ */
+@Component
+@Slf4j
+public class ApplicationArchive {
+
+    private final ApplicationArchiveRepository archiveRepository;
+    private final ApplicationCache applicationCache;
+    private final DataChangeCounter dataChangeCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache secondLevelCache;
+    private final boolean enabled;
+    private final Duration closedFor;
+    private final int batchSize;
+
+    public ApplicationArchive(ApplicationArchiveRepository archiveRepository,
+                              ApplicationCache applicationCache,
+                              DataChangeCounter dataChangeCounter,
+                              TransactionTemplate transactionTemplate,
+                              EntityManagerFactory entityManagerFactory,
+                              @Value("${smartapply.archive.enabled:false}") boolean enabled,
+                              @Value("${smartapply.archive.closed-for:180d}") Duration closedFor,
+                              @Value("${smartapply.archive.batch-size:500}") int batchSize) {
+        this.archiveRepository = archiveRepository;
+        this.applicationCache = applicationCache;
+        this.dataChangeCounter = dataChangeCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.secondLevelCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.enabled = enabled;
+        this.closedFor = closedFor;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Verschiebt alle Bewerbungen, die länger als closed-for abgeschlossen sind, ins Archiv -
+     * in Batches mit je eigener Transaktion, damit Sperren und Undo-Log klein bleiben.
+     */
+    public int archiveClosed() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime closedBefore = LocalDateTime.now().minus(closedFor);
+        int total = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(closedBefore));
+            total += moved;
+        } while (moved == batchSize);
+
+        log.info("Archived {} applications closed before {}", total, closedBefore);
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime closedBefore) {
+        List<Long> ids = archiveRepository.lockClosedBefore(ApplicationStatus.CLOSED_STATUSES, closedBefore, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int moved = archiveRepository.moveToArchive(ids, LocalDateTime.now());
+        // Zähler bleiben gleich (Statistik zählt das Archiv mit), nur Listen und ETags ändern sich
+        applicationCache.listsChanged();
+        dataChangeCounter.changed();
+        AfterCommit.run(() -> evictFromSecondLevelCache(ids));
+        log.debug("Archived batch of {} applications", moved);
+        return moved;
+    }
+
+    // Vor Änderungen an einer archivierten Bewerbung; läuft in der Transaktion des Aufrufers
+    public boolean restore(Long id) {
+        if (!enabled || !archiveRepository.restore(id)) {
+            return false;
+        }
+        applicationCache.listsChanged();
+        dataChangeCounter.changed();
+        log.info("Restored application {} from archive", id);
+        return true;
+    }
+
+    public Optional<Application> find(Long id) {
+        return enabled ? archiveRepository.findById(id) : Optional.empty();
+    }
+
+    public Optional<Long> findVersion(Long id) {
+        return enabled ? archiveRepository.findVersionById(id) : Optional.empty();
+    }
+
+    // Duplikatprüfung: auch abgeschlossene, archivierte Bewerbungen zählen als bereits beworben
+    public Optional<Long> findIdByFingerprint(String fingerprint) {
+        return enabled ? archiveRepository.findIdsByFingerprint(fingerprint, 1).stream().findFirst() : Optional.empty();
+    }
+
+    public Map<String, Long> findIdsByFingerprints(Collection<String> fingerprints) {
+        return enabled && !fingerprints.isEmpty() ? archiveRepository.findIdsByFingerprints(fingerprints) : Map.of();
+    }
+
+    public Map<ApplicationStatus, Long> countByStatus() {
+        return enabled ? archiveRepository.countGroupedByStatus() : Map.of();
+    }
+
+    // Im Archiv stehen nur abgeschlossene Bewerbungen - für offene Status gar nicht erst abfragen
+    public List<ApplicationDTO> page(ApplicationStatus status, LocalDate afterDate, Long afterId, int limit) {
+        if (!enabled || (status != null && !status.isClosed())) {
+            return List.of();
+        }
+        return archiveRepository.findPage(status, afterDate, afterId, limit);
+    }
+
+    public List<ApplicationDTO> search(String term, long offset, int limit) {
+        return enabled ? archiveRepository.search(term, offset, limit) : List.of();
+    }
+
+    public Stream<Application> stream(ApplicationStatus status, String term) {
+        if (!enabled || (status != null && !status.isClosed())) {
+            return Stream.empty();
+        }
+        return archiveRepository.stream(status, term);
+    }
+
+    // Die Zeilen wurden per JDBC verschoben - Hibernate bekommt davon nichts mit
+    private void evictFromSecondLevelCache(List<Long> ids) {
+        ids.forEach(id -> secondLevelCache.evictEntityData(Application.class, id));
+        secondLevelCache.evictQueryRegions();
+    }
+}
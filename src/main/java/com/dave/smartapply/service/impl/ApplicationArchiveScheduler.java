@@ -0,0 +1,21 @@
+package com.dave.smartapply.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Archiviert abgeschlossene Bewerbungen periodisch (Standard: nachts um 3:30).
+ * Ohne smartapply.archive.enabled=true passiert nichts.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationArchiveScheduler {
+
+    private final ApplicationArchive applicationArchive;
+
+    @Scheduled(cron = "${smartapply.archive.cron:0 30 3 * * *}")
+    public void archiveClosed() {
+        applicationArchive.archiveClosed();
+    }
+}
@@ -0,0 +1,74 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.config.CacheConfig;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hält das gecachte Status-Histogramm und die Dashboard-Listen konsistent.
+ * Änderungen werden erst nach dem Commit angewendet, damit ein Rollback
+ * keine falschen Zähler im Cache hinterlässt.
+ *
+ * <p>Das Histogramm wird bei Statuswechseln verworfen statt inkrementell nachgeführt:
+ * ein Delta auf einen Eintrag, den ein paralleler Cache-Miss gerade noch vom alten Stand
+ * lädt, würde sonst doppelt oder gar nicht gezählt. Caffeine blockiert das Verwerfen,
+ * bis ein laufender Load für denselben Schlüssel fertig ist.
+ */
+@Component
+public class ApplicationCache {
+
+    private static final String STATISTICS_KEY = "histogram";
+
+    private final Cache statisticsCache;
+    private final Cache dashboardCache;
+
+    // Lokaler Änderungszähler für In-Memory-Caches dieser Instanz (RenderedFragments); ETags kommen aus der Datenbank
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    public ApplicationCache(CacheManager cacheManager) {
+        this.statisticsCache = cacheManager.getCache(CacheConfig.STATISTICS_CACHE);
+        this.dashboardCache = cacheManager.getCache(CacheConfig.DASHBOARD_CACHE);
+    }
+
+    public ApplicationStatisticsDTO getStatistics(Supplier<ApplicationStatisticsDTO> loader) {
+        return statisticsCache.get(STATISTICS_KEY, loader::get);
+    }
+
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    // Statuswechsel einer oder mehrerer Bewerbungen (null = angelegt bzw. gelöscht)
+    public void statusChanged(ApplicationStatus from, ApplicationStatus to) {
+        AfterCommit.run(() -> {
+            if (from != to) {
+                statisticsCache.evict(STATISTICS_KEY);
+            }
+            dashboardCache.clear();
+            dataVersion.incrementAndGet();
+        });
+    }
+
+    // Zeilen zwischen aktivem Bestand und Archiv verschoben: Zähler bleiben, Listen nicht
+    public void listsChanged() {
+        AfterCommit.run(() -> {
+            dashboardCache.clear();
+            dataVersion.incrementAndGet();
+        });
+    }
+
+    // Mengenänderungen mit gemischten Ausgangsstatus (Bulk-Update über IDs)
+    public void invalidateAll() {
+        AfterCommit.run(() -> {
+            statisticsCache.clear();
+            dashboardCache.clear();
+            dataVersion.incrementAndGet();
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.repository.LikePattern;
+import com.dave.smartapply.service.ApplicationExportService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationExportServiceImpl implements ApplicationExportService {
+
+    // Nach so vielen Zeilen wird an den Client geflusht
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final String CSV_HEADER = "id,companyName,position,status,applicationDate,deadline,"
+            + "contactPerson,contactEmail,contactPhone,notes,jobUrl,salaryExpectation,createdAt,updatedAt";
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchive applicationArchive;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportApplications(ApplicationStatus status, String search, Format format, OutputStream output)
+            throws IOException {
+        log.info("Exporting applications - status: {}, search: {}, format: {}", status, search, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        // Aktiver Bestand zuerst, danach das Archiv - der zweite Cursor wird erst geöffnet, wenn der erste durch ist.
+        // Bewusst kein Stream.flatMap: dessen iterator() puffert den inneren Stream komplett (JDK-8267359)
+        for (Supplier<Stream<Application>> source : sources(status, search)) {
+            try (Stream<Application> applications = source.get()) {
+                Iterator<Application> iterator = applications.iterator();
+                while (iterator.hasNext()) {
+                    Application application = iterator.next();
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, application);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(application));
+                        writer.write('\n');
+                    }
+                    // Persistence Context klein halten: geschriebene Entities sofort lösen (archivierte sind nie verwaltet)
+                    if (entityManager.contains(application)) {
+                        entityManager.detach(application);
+                    }
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("Exported {} applications", count);
+        return count;
+    }
+
+    private List<Supplier<Stream<Application>>> sources(ApplicationStatus status, String search) {
+        if (status != null) {
+            return List.of(() -> applicationRepository.streamByStatus(status), () -> applicationArchive.stream(status, null));
+        }
+        if (search != null && !search.isBlank()) {
+            String term = search.trim().toLowerCase(Locale.ROOT);
+            return List.of(() -> applicationRepository.streamBySearchTerm(LikePattern.escape(term)),
+                    () -> applicationArchive.stream(null, term));
+        }
+        return List.of(applicationRepository::streamAll, () -> applicationArchive.stream(null, null));
+    }
+
+    private void writeCsvRow(Writer writer, Application application) throws IOException {
+        Object[] values = {
+                application.getId(),
+                application.getCompanyName(),
+                application.getPosition(),
+                application.getStatus(),
+                application.getApplicationDate(),
+                application.getDeadline(),
+                application.getContactPerson(),
+                application.getContactEmail(),
+                application.getContactPhone(),
+                application.getNotes(),
+                application.getJobUrl(),
+                application.getSalaryExpectation(),
+                application.getCreatedAt(),
+                application.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
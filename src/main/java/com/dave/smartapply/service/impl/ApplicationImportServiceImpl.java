@@ -0,0 +1,320 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.ApplicationCreateDTO;
+import com.dave.smartapply.dto.ApplicationImportResultDTO;
+import com.dave.smartapply.event.ApplicationChangedEvent;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationFingerprint;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.ApplicationImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationImportServiceImpl implements ApplicationImportService {
+
+    // Entspricht hibernate.jdbc.batch_size: ein Chunk = eine Transaktion mit gebatchten Inserts
+    private static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchive applicationArchive;
+    private final ApplicationCache applicationCache;
+    private final DataChangeCounter dataChangeCounter;
+    private final DeadlineIndex deadlineIndex;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public ApplicationImportResultDTO importApplications(InputStream input, Format format) {
+        log.info("Starting bulk import ({})", format);
+        ImportRun run = new ImportRun();
+
+        try {
+            if (format == Format.JSON) {
+                readJson(input, run);
+            } else {
+                readCsv(input, run);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Import-Datei konnte nicht gelesen werden", e);
+        } catch (JacksonException e) {
+            // Struktureller JSON-Fehler: bereits gelesene Zeilen werden trotzdem gespeichert
+            run.error(run.result.getTotalRows() + 1, "Ungültiges JSON: " + e.getOriginalMessage());
+        } finally {
+            run.flush();
+            applicationCache.invalidateAll();
+            deadlineIndex.invalidate();
+        }
+
+        if (run.result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(
+                    new ApplicationChangedEvent(ApplicationChangedEvent.Type.BULK_UPDATED, null, null, null));
+        }
+
+        ApplicationImportResultDTO result = run.result;
+        log.info("Bulk import finished - rows: {}, imported: {}, failed: {}",
+                result.getTotalRows(), result.getImportedRows(), result.getFailedRows());
+        return result;
+    }
+
+    private void readCsv(InputStream input, ImportRun run) throws IOException {
+        CsvApplicationReader reader = new CsvApplicationReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return;
+        }
+        List<String> columns = header.stream()
+                .map(column -> column.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            long rowNumber = run.nextRow();
+            try {
+                run.accept(rowNumber, toCreateDTO(columns, record));
+            } catch (IllegalArgumentException e) {
+                run.error(rowNumber, e.getMessage());
+            }
+        }
+    }
+
+    private void readJson(InputStream input, ImportRun run) {
+        try (JsonParser parser = objectMapper.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                run.error(1, "JSON-Import erwartet ein Array von Bewerbungen");
+                return;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                long rowNumber = run.nextRow();
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    run.accept(rowNumber, objectMapper.treeToValue(node, ApplicationCreateDTO.class));
+                } catch (JacksonException e) {
+                    run.error(rowNumber, e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private ApplicationCreateDTO toCreateDTO(List<String> columns, List<String> record) {
+        ApplicationCreateDTO dto = new ApplicationCreateDTO();
+        for (int i = 0; i < columns.size() && i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (columns.get(i)) {
+                case "companyname" -> dto.setCompanyName(value);
+                case "position" -> dto.setPosition(value);
+                case "status" -> dto.setStatus(parseStatus(value));
+                case "applicationdate" -> dto.setApplicationDate(parseDate("applicationDate", value));
+                case "deadline" -> dto.setDeadline(parseDate("deadline", value));
+                case "contactperson" -> dto.setContactPerson(value);
+                case "contactemail" -> dto.setContactEmail(value);
+                case "contactphone" -> dto.setContactPhone(value);
+                case "notes" -> dto.setNotes(value);
+                case "joburl" -> dto.setJobUrl(value);
+                case "salaryexpectation" -> dto.setSalaryExpectation(parseInteger("salaryExpectation", value));
+                default -> {
+                    // Unbekannte Spalten werden ignoriert
+                }
+            }
+        }
+        return dto;
+    }
+
+    private ApplicationStatus parseStatus(String value) {
+        try {
+            return ApplicationStatus.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("status: unbekannter Status '" + value + "'");
+        }
+    }
+
+    private LocalDate parseDate(String field, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(field + ": ungültiges Datum '" + value + "' (erwartet yyyy-MM-dd)");
+        }
+    }
+
+    private Integer parseInteger(String field, String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + ": ungültige Zahl '" + value + "'");
+        }
+    }
+
+    private static Application toApplication(ApplicationCreateDTO dto) {
+        Application application = dto.toApplication();
+        if (application.getStatus() == null) {
+            application.setStatus(ApplicationStatus.DRAFT);
+        }
+        if (application.getApplicationDate() == null) {
+            application.setApplicationDate(LocalDate.now());
+        }
+        return application;
+    }
+
+    // Zustand eines Import-Laufs: aktueller Chunk und Ergebnis
+    private class ImportRun {
+
+        private final ApplicationImportResultDTO result = new ApplicationImportResultDTO();
+        // DTOs statt Entities: nach einem Rollback behalten Entities ihre Sequenz-ID und Version
+        private final List<ApplicationCreateDTO> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Long> chunkRows = new ArrayList<>(CHUNK_SIZE);
+
+        long nextRow() {
+            result.setTotalRows(result.getTotalRows() + 1);
+            return result.getTotalRows();
+        }
+
+        void accept(long rowNumber, ApplicationCreateDTO dto) {
+            Set<ConstraintViolation<ApplicationCreateDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                error(rowNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            chunk.add(dto);
+            chunkRows.add(rowNumber);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                removeDuplicates();
+                save(0, chunk.size());
+            } catch (RuntimeException e) {
+                // Ein fehlgeschlagener Chunk bricht den Import nicht ab
+                log.warn("Failed to import chunk of {} applications", chunk.size(), e);
+                chunkRows.forEach(row -> error(row, "Speichern fehlgeschlagen: " + e.getMessage()));
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        // Schlägt ein Teil fehl, wird er halbiert und jede Hälfte in eigener Transaktion erneut
+        // versucht - bis nur noch die fehlerhaften Zeilen übrig bleiben
+        private void save(int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Application> applications = chunk.subList(from, to).stream()
+                            .map(ApplicationImportServiceImpl::toApplication)
+                            .toList();
+                    applicationRepository.saveAll(applications).forEach(statusHistoryRecorder::created);
+                    dataChangeCounter.changed();
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                result.setImportedRows(result.getImportedRows() + to - from);
+                log.debug("Imported {} applications", to - from);
+            } catch (RuntimeException e) {
+                if (to - from == 1) {
+                    log.warn("Failed to import row {}", chunkRows.get(from), e);
+                    error(chunkRows.get(from), "Speichern fehlgeschlagen: " + e.getMessage());
+                    return;
+                }
+                log.debug("Failed to import {} applications, retrying in halves", to - from);
+                int middle = (from + to) >>> 1;
+                save(from, middle);
+                save(middle, to);
+            }
+        }
+
+        // Eine IN-Abfrage über den Fingerprint-Index je Chunk; frühere Chunks sind bereits gespeichert
+        private void removeDuplicates() {
+            List<String> fingerprints = chunk.stream()
+                    .map(dto -> ApplicationFingerprint.of(dto.getCompanyName(), dto.getPosition(), dto.getJobUrl()))
+                    .toList();
+            Map<String, Long> existing = new HashMap<>();
+            for (ApplicationRepository.FingerprintMatch match
+                    : applicationRepository.findByFingerprintIn(new HashSet<>(fingerprints))) {
+                existing.merge(match.getFingerprint(), match.getId(), Math::min);
+            }
+            applicationArchive.findIdsByFingerprints(new HashSet<>(fingerprints))
+                    .forEach((fingerprint, id) -> existing.merge(fingerprint, id, Math::min));
+
+            Map<String, Long> firstRowByFingerprint = new HashMap<>();
+            List<ApplicationCreateDTO> unique = new ArrayList<>(chunk.size());
+            List<Long> uniqueRows = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                String fingerprint = fingerprints.get(i);
+                long rowNumber = chunkRows.get(i);
+                Long existingId = existing.get(fingerprint);
+                Long firstRow = firstRowByFingerprint.putIfAbsent(fingerprint, rowNumber);
+                if (existingId != null) {
+                    error(rowNumber, "Duplikat der Bewerbung " + existingId);
+                } else if (firstRow != null) {
+                    error(rowNumber, "Duplikat von Zeile " + firstRow);
+                } else {
+                    unique.add(chunk.get(i));
+                    uniqueRows.add(rowNumber);
+                }
+            }
+            chunk.clear();
+            chunk.addAll(unique);
+            chunkRows.clear();
+            chunkRows.addAll(uniqueRows);
+        }
+
+        void error(long rowNumber, String message) {
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new ApplicationImportResultDTO.RowError(rowNumber, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+}
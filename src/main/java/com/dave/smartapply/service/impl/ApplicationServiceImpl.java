@@ -1,25 +1,79 @@
 package com.dave.smartapply.service.impl;
 
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.dave.smartapply.config.CacheConfig;
+import com.dave.smartapply.config.PrimaryReads;
+import com.dave.smartapply.config.MetricsConfig;
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.event.ApplicationChangedEvent;
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.exception.ApplicationNotFoundException;
+import com.dave.smartapply.exception.DuplicateApplicationException;
+import com.dave.smartapply.service.ApplicationSearchEngine;
 import com.dave.smartapply.service.ApplicationService;
 import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationFingerprint;
 import com.dave.smartapply.model.ApplicationStatus;
 import com.dave.smartapply.repository.ApplicationRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class ApplicationServiceImpl implements ApplicationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // Sortierung der Keyset-Pagination (ApplicationRepository.PAGE_ORDER)
+    private static final Comparator<ApplicationDTO> PAGE_ORDER = Comparator
+            .comparing(ApplicationDTO::getApplicationDate)
+            .thenComparing(ApplicationDTO::getId)
+            .reversed();
+
+    // Obergrenze für IN-Listen pro UPDATE (PostgreSQL erlaubt max. 32767 Bind-Parameter)
+    private static final int BULK_ID_CHUNK_SIZE = 1000;
+
+    // Versuche bei Optimistic-Lock-Konflikten (jeweils in eigener Transaktion)
+    private static final int MAX_OPTIMISTIC_ATTEMPTS = 3;
+
     private final ApplicationRepository applicationRepository;
+    private final ApplicationSearchEngine applicationSearchEngine;
+    private final ApplicationCache applicationCache;
+    private final DataChangeCounter dataChangeCounter;
+    private final DeadlineIndex deadlineIndex;
+    private final ApplicationArchive applicationArchive;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Application createApplication(Application application) {
@@ -35,21 +89,57 @@ public class ApplicationServiceImpl implements ApplicationService {
             application.setApplicationDate(LocalDate.now());
         }
 
+        // Indexzugriff über den Fingerabdruck statt Vergleich mit allen Bewerbungen der Firma, aktiv und archiviert.
+        // Bewusst ohne UNIQUE-Index (Bestandsduplikate meldet der Duplikat-Report): zwei gleichzeitige
+        // Anlagen derselben Bewerbung können beide durchkommen und erscheinen dann im nächsten Report.
+        String fingerprint = ApplicationFingerprint.of(
+                application.getCompanyName(), application.getPosition(), application.getJobUrl());
+        Optional<Long> duplicate = applicationRepository.findIdsByFingerprint(fingerprint, Limit.of(1)).stream()
+                .findFirst()
+                .or(() -> applicationArchive.findIdByFingerprint(fingerprint));
+        if (duplicate.isPresent()) {
+            log.warn("Rejecting duplicate of application {} for company: {}",
+                    duplicate.get(), application.getCompanyName());
+            throw new DuplicateApplicationException(duplicate.get());
+        }
+
         Application saved = applicationRepository.save(application);
+        statusHistoryRecorder.created(saved);
+        applicationCache.statusChanged(null, saved.getStatus());
+        dataChangeCounter.changed();
+        deadlineIndex.applicationSaved(saved);
+        publishChange(ApplicationChangedEvent.Type.CREATED, saved, null);
         log.info("Application created with ID: {}", saved.getId());
         return saved;
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Application updateApplication(Long id, Application application) {
         log.info("Updating application with ID: {}", id);
 
-        return applicationRepository.findById(id)
+        // Formular-Version = Stand, auf dem der Benutzer editiert hat (null = ohne Konfliktprüfung)
+        Long expectedVersion = application.getVersion();
+        return withOptimisticRetry(id, () -> findForChange(id)
                 .map(existing -> {
+                    if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+                        log.warn("Conflict updating application {}: expected version {}, current {}",
+                                id, expectedVersion, existing.getVersion());
+                        throw new ApplicationConflictException(id, expectedVersion, existing.getVersion());
+                    }
+
+                    // Nur geänderte Felder werden geschrieben (@DynamicUpdate + Dirty Checking)
+                    ApplicationStatus oldStatus = existing.getStatus();
+                    LocalDate oldDeadline = existing.getDeadline();
                     existing.setCompanyName(application.getCompanyName());
                     existing.setPosition(application.getPosition());
-                    existing.setStatus(application.getStatus());
-                    existing.setApplicationDate(application.getApplicationDate());
+                    // Pflichtfelder ohne Wert (z.B. aus der API) bleiben unverändert
+                    if (application.getStatus() != null) {
+                        existing.setStatus(application.getStatus());
+                    }
+                    if (application.getApplicationDate() != null) {
+                        existing.setApplicationDate(application.getApplicationDate());
+                    }
                     existing.setDeadline(application.getDeadline());
                     existing.setContactPerson(application.getContactPerson());
                     existing.setContactEmail(application.getContactEmail());
@@ -57,27 +147,38 @@ public class ApplicationServiceImpl implements ApplicationService {
                     existing.setNotes(application.getNotes());
                     existing.setJobUrl(application.getJobUrl());
                     existing.setSalaryExpectation(application.getSalaryExpectation());
+                    statusHistoryRecorder.statusChanged(existing, oldStatus);
 
                     Application updated = applicationRepository.save(existing);
+                    applicationCache.statusChanged(oldStatus, updated.getStatus());
+                    dataChangeCounter.changed();
+                    deadlineIndex.applicationSaved(updated, oldStatus, oldDeadline);
+                    publishChange(ApplicationChangedEvent.Type.UPDATED, updated, oldStatus);
                     log.info("Application updated successfully: {}", updated.getId());
                     return updated;
                 })
                 .orElseThrow(() -> {
                     log.error("Application not found with ID: {}", id);
-                    return new RuntimeException("Application not found with id: " + id);
-                });
+                    return new ApplicationNotFoundException(id);
+                }));
     }
 
     @Override
     public void deleteApplication(Long id) {
         log.info("Deleting application with ID: {}", id);
 
-        if (!applicationRepository.existsById(id)) {
-            log.error("Application not found with ID: {}", id);
-            throw new RuntimeException("Application not found with id: " + id);
-        }
+        Application application = findForChange(id)
+                .orElseThrow(() -> {
+                    log.error("Application not found with ID: {}", id);
+                    return new ApplicationNotFoundException(id);
+                });
 
-        applicationRepository.deleteById(id);
+        applicationRepository.delete(application);
+        applicationCache.statusChanged(application.getStatus(), null);
+        dataChangeCounter.changed();
+        deadlineIndex.applicationDeleted(application);
+        AfterCommit.run(() -> eventPublisher.publishEvent(new ApplicationChangedEvent(
+                ApplicationChangedEvent.Type.DELETED, id, null, application.getStatus())));
         log.info("Application deleted successfully: {}", id);
     }
 
@@ -85,7 +186,33 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Transactional(readOnly = true)
     public Optional<Application> getApplicationById(Long id) {
         log.debug("Fetching application with ID: {}", id);
-        return applicationRepository.findById(id);
+        return applicationRepository.findById(id).or(() -> applicationArchive.find(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getApplicationVersion(Long id) {
+        // Vergleich mit If-Match/If-None-Match: ein Replikat könnte eine veraltete Version liefern
+        return PrimaryReads.call(() -> applicationRepository.findVersionById(id)
+                .or(() -> applicationArchive.findVersion(id)));
+    }
+
+    // Archivierte Bewerbungen werden vor Änderungen in den aktiven Bestand zurückgeholt
+    private Optional<Application> findForChange(Long id) {
+        return applicationRepository.findById(id)
+                .or(() -> applicationArchive.restore(id) ? applicationRepository.findById(id) : Optional.empty());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getDataVersion() {
+        return applicationCache.getDataVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getDataState() {
+        return Long.toString(dataChangeCounter.current(), 36);
     }
 
     @Override
@@ -95,11 +222,61 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationRepository.findAllByOrderByApplicationDateDesc();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationPageDTO getApplicationPage(ApplicationStatus status, LocalDate afterDate, Long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.debug("Fetching application page - status: {}, after: {}/{}, size: {}", status, afterDate, afterId, pageSize);
+
+        // Ein Element mehr laden, um zu erkennen, ob es eine nächste Seite gibt
+        Limit limit = Limit.of(pageSize + 1);
+        boolean firstPage = afterDate == null || afterId == null;
+        List<ApplicationDTO> rows;
+        if (status == null) {
+            rows = firstPage
+                    ? applicationRepository.findPage(limit)
+                    : applicationRepository.findPageAfter(afterDate, afterId, limit);
+        } else {
+            rows = firstPage
+                    ? applicationRepository.findPageByStatus(status, limit)
+                    : applicationRepository.findPageByStatusAfter(status, afterDate, afterId, limit);
+        }
+        // Gleicher Cursor und gleiche Sortierung: die Seite aus beiden Beständen zusammenführen,
+        // damit Liste und Statusfilter dieselben Bewerbungen zeigen, die die Statistik zählt
+        List<ApplicationDTO> archived = applicationArchive.page(status, firstPage ? null : afterDate,
+                firstPage ? null : afterId, pageSize + 1);
+        if (!archived.isEmpty()) {
+            List<ApplicationDTO> merged = new ArrayList<>(rows);
+            merged.addAll(archived);
+            merged.sort(PAGE_ORDER);
+            rows = merged.subList(0, Math.min(merged.size(), pageSize + 1));
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ApplicationDTO> items = hasNext ? rows.subList(0, pageSize) : rows;
+        ApplicationDTO last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return new ApplicationPageDTO(
+                List.copyOf(items),
+                hasNext,
+                last != null ? last.getApplicationDate() : null,
+                last != null ? last.getId() : null);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Application> getApplicationsByStatus(ApplicationStatus status) {
         log.debug("Fetching applications with status: {}", status);
-        return applicationRepository.findByStatus(status);
+        // Query-Cache: Ergebnisse vom Replikat blieben bis zur nächsten Änderung gecacht
+        List<Application> applications = PrimaryReads.call(() -> applicationRepository.findByStatus(status));
+        try (Stream<Application> archived = applicationArchive.stream(status, null)) {
+            List<Application> archivedApplications = archived.toList();
+            if (archivedApplications.isEmpty()) {
+                return applications;
+            }
+            List<Application> combined = new ArrayList<>(applications);
+            combined.addAll(archivedApplications);
+            return combined;
+        }
     }
 
     @Override
@@ -109,53 +286,208 @@ public class ApplicationServiceImpl implements ApplicationService {
         return applicationRepository.findByCompanyNameContainingIgnoreCase(companyName);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ApplicationDTO> searchApplications(String term, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        log.debug("Searching applications - term: {}, page: {}, size: {}", term, page, pageSize);
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), pageSize);
+        Slice<ApplicationDTO> active = applicationSearchEngine.search(term, pageable);
+        if (active.hasNext() || !applicationArchive.isEnabled()) {
+            return active;
+        }
+
+        // Aktive Treffer sind erschöpft: Seite mit archivierten Treffern auffüllen
+        long activeCount = active.hasContent() || page <= 0
+                ? pageable.getOffset() + active.getNumberOfElements()
+                : applicationSearchEngine.count(term);
+        int missing = pageSize - active.getNumberOfElements();
+        List<ApplicationDTO> archived = applicationArchive.search(term.trim().toLowerCase(Locale.ROOT),
+                pageable.getOffset() + active.getNumberOfElements() - activeCount, missing + 1);
+        List<ApplicationDTO> content = new ArrayList<>(active.getContent());
+        content.addAll(archived.subList(0, Math.min(missing, archived.size())));
+        return new SliceImpl<>(content, pageable, archived.size() > missing);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<Application> getUpcomingDeadlines(int days) {
-        LocalDate futureDate = LocalDate.now().plusDays(days);
-        log.debug("Fetching applications with deadlines before: {}", futureDate);
-        return applicationRepository.findByDeadlineBefore(futureDate);
+        log.debug("Fetching applications with deadlines in the next {} days", days);
+        // IDs aus dem Index, danach nur diese Entities laden (keine überfälligen Altlasten)
+        List<Long> ids = deadlineIndex.upcoming(days, Integer.MAX_VALUE).stream()
+                .map(ApplicationDTO::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Application> applications = new ArrayList<>(applicationRepository.findAllById(ids));
+        applications.sort(Comparator.comparing(Application::getDeadline).thenComparing(Application::getId));
+        return applications;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Application> getOpenApplications() {
         log.debug("Fetching all open applications");
-        List<ApplicationStatus> closedStatuses = List.of(
-                ApplicationStatus.REJECTED,
-                ApplicationStatus.ACCEPTED
-        );
-        return applicationRepository.findByStatusNotInOrderByApplicationDateDesc(closedStatuses);
+        // Query-Cache: wie getApplicationsByStatus
+        return PrimaryReads.call(() -> applicationRepository.findByStatusNotInOrderByApplicationDateDesc(
+                List.copyOf(ApplicationStatus.CLOSED_STATUSES)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_CACHE, key = "'recent:' + #limit")
+    public List<ApplicationDTO> getRecentApplications(int limit) {
+        log.debug("Fetching {} most recent applications", limit);
+        // Cache-Loader: gecachte Listen werden vom Primary geladen
+        return PrimaryReads.call(() -> applicationRepository.findPage(Limit.of(limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_CACHE, key = "'open:' + #limit")
+    public List<ApplicationDTO> getOpenApplications(int limit) {
+        log.debug("Fetching {} most recent open applications", limit);
+        return PrimaryReads.call(() -> applicationRepository.findOpenPage(ApplicationStatus.CLOSED_STATUSES, Limit.of(limit)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ApplicationDTO> getUpcomingDeadlines(int days, int limit) {
+        log.debug("Fetching up to {} applications with deadlines in the next {} days", limit, days);
+        return deadlineIndex.upcoming(days, limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ApplicationDTO> getOverdueDeadlines(int limit) {
+        log.debug("Fetching up to {} overdue applications", limit);
+        return deadlineIndex.overdue(limit);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Long getCountByStatus(ApplicationStatus status) {
         log.debug("Counting applications with status: {}", status);
-        return applicationRepository.countByStatus(status);
+        return getStatistics().getCount(status);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Application updateStatus(Long id, ApplicationStatus newStatus) {
+        return updateStatus(id, newStatus, null);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Application updateStatus(Long id, ApplicationStatus newStatus, Long expectedVersion) {
         log.info("Updating status for application ID: {} to {}", id, newStatus);
 
-        return applicationRepository.findById(id)
+        // Ohne erwartete Version wird der Statuswechsel bei Konflikten auf dem aktuellen Stand erneut angewendet
+        return withOptimisticRetry(id, () -> findForChange(id)
                 .map(application -> {
+                    if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+                        log.warn("Conflict updating status of application {}: expected version {}, current {}",
+                                id, expectedVersion, application.getVersion());
+                        throw new ApplicationConflictException(id, expectedVersion, application.getVersion());
+                    }
+                    ApplicationStatus oldStatus = application.getStatus();
                     application.setStatus(newStatus);
+                    statusHistoryRecorder.statusChanged(application, oldStatus);
                     Application updated = applicationRepository.save(application);
+                    applicationCache.statusChanged(oldStatus, newStatus);
+                    dataChangeCounter.changed();
+                    deadlineIndex.applicationSaved(updated, oldStatus, updated.getDeadline());
+                    publishChange(ApplicationChangedEvent.Type.STATUS_CHANGED, updated, oldStatus);
                     log.info("Status updated successfully for application: {}", updated.getId());
                     return updated;
                 })
                 .orElseThrow(() -> {
                     log.error("Application not found with ID: {}", id);
-                    return new RuntimeException("Application not found with id: " + id);
-                });
+                    return new ApplicationNotFoundException(id);
+                }));
+    }
+
+    // Live-Update-Events erst nach dem Commit, damit Clients nie zurückgerollte Stände sehen
+    private void publishChange(ApplicationChangedEvent.Type type, Application application, ApplicationStatus previousStatus) {
+        ApplicationChangedEvent event = new ApplicationChangedEvent(
+                type, application.getId(), ApplicationDTO.from(application), previousStatus);
+        AfterCommit.run(() -> eventPublisher.publishEvent(event));
+    }
+
+    private void publishBulkChange() {
+        AfterCommit.run(() -> eventPublisher.publishEvent(
+                new ApplicationChangedEvent(ApplicationChangedEvent.Type.BULK_UPDATED, null, null, null)));
+    }
+
+    // Führt die Änderung in einer eigenen Transaktion aus und wiederholt sie bei Versionskonflikten
+    private Application withOptimisticRetry(Long id, Supplier<Application> change) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> change.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_OPTIMISTIC_ATTEMPTS) {
+                    log.error("Giving up on application {} after {} optimistic lock conflicts", id, attempt);
+                    throw e;
+                }
+                log.warn("Optimistic lock conflict on application {} (attempt {}), retrying", id, attempt);
+            }
+        }
+    }
+
+    @Override
+    public int bulkUpdateStatus(Collection<Long> ids, ApplicationStatus newStatus) {
+        log.info("Bulk status update of {} applications to {}", ids.size(), newStatus);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += BULK_ID_CHUNK_SIZE) {
+            List<Long> chunk = new ArrayList<>(
+                    distinctIds.subList(from, Math.min(from + BULK_ID_CHUNK_SIZE, distinctIds.size())));
+            statusHistoryRecorder.bulkChanged(chunk, newStatus, now);
+            updated += applicationRepository.updateStatusByIdIn(chunk, newStatus, now);
+        }
+
+        // Ausgangsstatus sind gemischt - Zähler werden nach dem Commit neu geladen
+        if (updated > 0) {
+            applicationCache.invalidateAll();
+            dataChangeCounter.changed();
+            deadlineIndex.invalidate();
+            publishBulkChange();
+        }
+        log.info("Bulk status update changed {} applications", updated);
+        return updated;
+    }
+
+    @Override
+    public int bulkUpdateStatus(ApplicationStatus currentStatus, int olderThanDays, ApplicationStatus newStatus) {
+        LocalDate appliedOnOrBefore = LocalDate.now().minusDays(Math.max(olderThanDays, 0));
+        log.info("Bulk status update {} -> {} for applications from {} or earlier",
+                currentStatus, newStatus, appliedOnOrBefore);
+
+        if (currentStatus == newStatus) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        statusHistoryRecorder.bulkChanged(currentStatus, appliedOnOrBefore, newStatus, now);
+        int updated = applicationRepository.updateStatusByStatusAndApplicationDate(
+                currentStatus, appliedOnOrBefore, newStatus, now);
+
+        if (updated > 0) {
+            applicationCache.statusChanged(currentStatus, newStatus);
+            dataChangeCounter.changed();
+            deadlineIndex.invalidate();
+            publishBulkChange();
+        }
+        log.info("Bulk status update changed {} applications", updated);
+        return updated;
     }
 
     @Override
     @Transactional(readOnly = true)
     public long getTotalApplications() {
-        long count = applicationRepository.count();
+        long count = getStatistics().getTotalCount();
         log.debug("Total applications: {}", count);
         return count;
     }
@@ -163,12 +495,42 @@ public class ApplicationServiceImpl implements ApplicationService {
     @Override
     @Transactional(readOnly = true)
     public long getActiveApplications() {
-        List<ApplicationStatus> closedStatuses = List.of(
-                ApplicationStatus.REJECTED,
-                ApplicationStatus.ACCEPTED
-        );
-        long count = applicationRepository.findByStatusNotInOrderByApplicationDateDesc(closedStatuses).size();
+        long count = getStatistics().getActiveCount();
         log.debug("Active applications: {}", count);
         return count;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getClosedApplications() {
+        long count = getStatistics().getClosedCount();
+        log.debug("Closed applications: {}", count);
+        return count;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getOverdueApplications() {
+        long count = deadlineIndex.overdueCount();
+        log.debug("Overdue applications: {}", count);
+        return count;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApplicationStatisticsDTO getStatistics() {
+        // Read-through: nur bei Cache-Miss (oder nach Invalidierung) wird die gruppierte Query ausgeführt
+        return applicationCache.getStatistics(() -> PrimaryReads.call(this::loadStatistics));
+    }
+
+    private ApplicationStatisticsDTO loadStatistics() {
+        EnumMap<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationRepository.StatusCount row : applicationRepository.countGroupedByStatus()) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        applicationArchive.countByStatus().forEach((status, count) -> counts.merge(status, count, Long::sum));
+        ApplicationStatisticsDTO statistics = new ApplicationStatisticsDTO(counts);
+        log.debug("Statistics loaded - total: {}, active: {}", statistics.getTotalCount(), statistics.getActiveCount());
+        return statistics;
+    }
 }
@@ -0,0 +1,89 @@
+package com.dave.smartapply.service.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimaler, streamender CSV-Leser (RFC 4180): Felder in Anführungszeichen
+ * dürfen Trennzeichen, doppelte Anführungszeichen und Zeilenumbrüche enthalten.
+ * Das Trennzeichen (Komma oder Semikolon) wird aus der Kopfzeile erkannt.
+ */
+class CsvApplicationReader {
+
+    private final Reader reader;
+    private char delimiter = 0;
+    private int pushback = -1;
+
+    CsvApplicationReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Liefert die nächste Zeile als Feldliste oder null am Dateiende
+    List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+
+        while ((c = read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(next);
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == '\r') {
+                int next = read();
+                if (next != '\n') {
+                    unread(next);
+                }
+                break;
+            } else if (c == '\n') {
+                break;
+            } else if (delimiter == 0 && (c == ',' || c == ';')) {
+                // Erste Zeile: das erste Trennzeichen außerhalb von Anführungszeichen gilt
+                delimiter = (char) c;
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!any) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushback = c;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.config.PrimaryReads;
+import com.dave.smartapply.repository.DataChangeCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Gemeinsamer Änderungszähler aller Instanzen, aus dem die REST-API ihre ETags bildet.
+ * Jede schreibende Transaktion meldet sich über {@link #changed()}; hochgezählt wird einmal
+ * kurz vor dem Commit in derselben Transaktion, damit die Zeilensperre nur bis zum Commit
+ * gehalten wird und ein Rollback den Zähler nicht verändert.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataChangeCounter {
+
+    private final DataChangeCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public void changed() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> counterRepository.increment());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(DataChangeCounter.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(DataChangeCounter.this, Boolean.TRUE);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                counterRepository.increment();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DataChangeCounter.this);
+            }
+        });
+    }
+
+    // Vom Primary, damit ein ETag nie hinter dem eigenen Schreibzugriff zurückliegt
+    public long current() {
+        return PrimaryReads.call(counterRepository::current);
+    }
+}
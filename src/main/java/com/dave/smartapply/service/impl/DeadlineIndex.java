@@ -0,0 +1,402 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.config.PrimaryReads;
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.event.DeadlineReminderEvent;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Vorberechneter Deadline-Index: offene Bewerbungen mit Deadline von heute - overdue-days
+ * bis heute + Horizont, gruppiert nach Tag. Bevorstehende und überfällige Deadlines werden
+ * ohne Datenbankzugriff in O(k) gelesen. Noch ältere Überfällige liest {@link #overdue}
+ * begrenzt über idx_applications_deadline_status; ihre Anzahl wird als Zähler mitgeführt.
+ *
+ * <p>Leser sehen immer einen unveränderlichen {@link Snapshot}. {@link #rebuild} lädt ohne
+ * Sperre und veröffentlicht den neuen Stand mit einem einzigen Tausch; die Sperre schützt
+ * nur das kurze Nachführen einzelner Änderungen nach dem Commit.
+ *
+ * <p>Der Index liegt im Speicher jeder Instanz und wird nur mit deren eigenen Änderungen
+ * nachgeführt. Änderungen anderer Instanzen erkennt {@link #refreshIfChanged} am gemeinsamen
+ * {@link DataChangeCounter} und baut dann neu auf.
+ */
+@Component
+@Slf4j
+public class DeadlineIndex {
+
+    private static final Comparator<ApplicationDTO> BY_ID = Comparator.comparing(ApplicationDTO::getId);
+
+    // Version gelöschter Bewerbungen: keine spätere Änderung darf sie wieder eintragen
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final ApplicationRepository applicationRepository;
+    private final DataChangeCounter dataChangeCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int horizonDays;
+    private final int overdueDays;
+    private final int reminderDays;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    // Stand des Änderungszählers vor der Query des letzten Aufbaus
+    private volatile long rebuiltAtChange = -1;
+
+    // Nur unter lock verwendet: Einträge im Fenster und zuletzt gesehene Versionen von
+    // Bewerbungen außerhalb, damit eine verspätete ältere Änderung nichts überschreibt
+    private Map<Long, ApplicationDTO> entries = new HashMap<>();
+    private Map<Long, Long> droppedVersions = new HashMap<>();
+    private final Map<Long, LocalDate> remindedDeadlines = new HashMap<>();
+    // Änderungen, die während der Query eines laufenden Aufbaus eintreffen, werden nachgespielt
+    private final List<List<Change>> pendingRebuilds = new ArrayList<>();
+    // Änderungen am Zähler der älteren Überfälligen; eine Zählung gilt nur, wenn er gleich geblieben ist
+    private long olderOverdueChanges;
+
+    public DeadlineIndex(ApplicationRepository applicationRepository,
+                         DataChangeCounter dataChangeCounter,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${smartapply.deadlines.horizon-days:60}") int horizonDays,
+                         @Value("${smartapply.deadlines.overdue-days:30}") int overdueDays,
+                         @Value("${smartapply.deadlines.reminder-days:3}") int reminderDays) {
+        this.applicationRepository = applicationRepository;
+        this.dataChangeCounter = dataChangeCounter;
+        this.eventPublisher = eventPublisher;
+        this.horizonDays = horizonDays;
+        this.overdueDays = overdueDays;
+        this.reminderDays = reminderDays;
+    }
+
+    // Deadlines von heute bis heute + days, nach Deadline und ID sortiert. Tage jenseits des
+    // Horizonts liest eine auf den Rest von limit begrenzte Query über idx_applications_deadline_status.
+    public List<ApplicationDTO> upcoming(int days, int limit) {
+        Snapshot current = current();
+        LocalDate today = LocalDate.now();
+        LocalDate to = today.plusDays(days);
+        List<ApplicationDTO> result = new ArrayList<>(Math.min(limit, 64));
+        if (!to.isBefore(today)) {
+            collect(current.buckets().subMap(today, true, min(to, current.horizonEnd()), true), limit, result);
+        }
+        if (to.isAfter(current.horizonEnd()) && result.size() < limit) {
+            log.debug("Requested {} days of deadlines, index ends on {} - querying the rest", days, current.horizonEnd());
+            result.addAll(applicationRepository.findOpenDeadlinesBetween(current.horizonEnd().plusDays(1), to,
+                    ApplicationStatus.CLOSED_STATUSES, Limit.of(limit - result.size())));
+        }
+        return result;
+    }
+
+    // Überfällige offene Bewerbungen, älteste Deadline zuerst
+    public List<ApplicationDTO> overdue(int limit) {
+        Snapshot current = current();
+        List<ApplicationDTO> result = new ArrayList<>(Math.min(limit, 64));
+        if (current.olderOverdueStale() || current.olderOverdue() > 0) {
+            result.addAll(applicationRepository.findOpenDeadlinesBefore(
+                    current.windowStart(), ApplicationStatus.CLOSED_STATUSES, Limit.of(limit)));
+        }
+        collect(current.buckets().headMap(LocalDate.now(), false), limit, result);
+        return result;
+    }
+
+    // Summe über die Tages-Buckets plus Zähler - O(Anzahl Tage), nicht O(Anzahl Bewerbungen)
+    public long overdueCount() {
+        Snapshot current = current();
+        long count = olderOverdueCount(current);
+        for (List<ApplicationDTO> bucket : current.buckets().headMap(LocalDate.now(), false).values()) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    // Neu angelegte Bewerbung
+    public void applicationSaved(Application application) {
+        applicationSaved(application, null, null);
+    }
+
+    // Geänderte Bewerbung; previousStatus/previousDeadline = Stand vor der Änderung.
+    // Das DTO entsteht erst nach dem Commit, wenn die Entity ihre neue Version trägt.
+    public void applicationSaved(Application application, ApplicationStatus previousStatus, LocalDate previousDeadline) {
+        AfterCommit.run(() -> publish(change(ApplicationDTO.from(application), application.getId(),
+                previousStatus, previousDeadline)));
+    }
+
+    public void applicationDeleted(Application application) {
+        Long id = application.getId();
+        ApplicationStatus status = application.getStatus();
+        LocalDate deadline = application.getDeadline();
+        AfterCommit.run(() -> change(null, id, status, deadline));
+    }
+
+    // Mengenänderungen (Bulk-Update, Import): Index nach dem Commit komplett neu laden
+    public void invalidate() {
+        AfterCommit.run(this::rebuild);
+    }
+
+    // Neu aufbauen, wenn seit dem letzten Aufbau irgendeine Instanz geschrieben hat - eine
+    // Einzeilen-Abfrage, solange sich nichts ändert. Eigene Änderungen zählen mit (nicht unterscheidbar).
+    public void refreshIfChanged() {
+        if (dataChangeCounter.current() != rebuiltAtChange) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Lädt alle offenen Bewerbungen im Fenster (eine Query über idx_applications_deadline_status)
+     * und zählt die älteren Überfälligen - beides ohne Sperre. Anschließend werden Änderungen,
+     * die währenddessen committet wurden, nachgespielt, der neue Stand veröffentlicht und
+     * Erinnerungen für Deadlines verschickt, die ins Erinnerungsfenster gerückt sind.
+     */
+    public void rebuild() {
+        List<Change> changes = new ArrayList<>();
+        long seenOlderOverdueChanges;
+        lock.lock();
+        try {
+            pendingRebuilds.add(changes);
+            seenOlderOverdueChanges = olderOverdueChanges;
+        } finally {
+            lock.unlock();
+        }
+
+        List<DeadlineReminderEvent> reminders = new ArrayList<>();
+        try {
+            LocalDate today = LocalDate.now();
+            LocalDate windowStart = today.minusDays(overdueDays);
+            LocalDate horizonEnd = today.plusDays(horizonDays);
+            // Vor der Query gelesen: was danach committet wird, löst beim nächsten Abgleich erneut einen Aufbau aus
+            long changeBefore = dataChangeCounter.current();
+            // Der Index gilt bis zum nächsten Aufbau - daher vom Primary, nicht von einem Replikat
+            List<ApplicationDTO> rows = PrimaryReads.call(() -> applicationRepository.findOpenDeadlinesBetween(
+                    windowStart, horizonEnd, ApplicationStatus.CLOSED_STATUSES));
+            long olderOverdue = PrimaryReads.call(() -> applicationRepository.countOpenDeadlinesBefore(
+                    windowStart, ApplicationStatus.CLOSED_STATUSES));
+
+            // Zeilen kommen nach Deadline und ID sortiert
+            TreeMap<LocalDate, List<ApplicationDTO>> buckets = new TreeMap<>();
+            Map<Long, ApplicationDTO> rebuiltEntries = new HashMap<>();
+            for (ApplicationDTO row : rows) {
+                buckets.computeIfAbsent(row.getDeadline(), day -> new ArrayList<>()).add(row);
+                rebuiltEntries.put(row.getId(), row);
+            }
+            buckets.replaceAll((day, bucket) -> List.copyOf(bucket));
+
+            lock.lock();
+            try {
+                Snapshot rebuilt = new Snapshot(windowStart, horizonEnd, buckets, olderOverdue,
+                        olderOverdueChanges != seenOlderOverdueChanges);
+                entries = rebuiltEntries;
+                droppedVersions = new HashMap<>();
+                remindedDeadlines.keySet().retainAll(rebuiltEntries.keySet());
+                for (Change change : changes) {
+                    DeadlineReminderEvent reminder = apply(rebuilt, buckets, change.id(), change.saved());
+                    if (reminder != null) {
+                        reminders.add(reminder);
+                    }
+                }
+                snapshot = rebuilt.withBuckets(buckets, 0);
+                rebuiltAtChange = changeBefore;
+
+                for (List<ApplicationDTO> bucket : buckets.subMap(today, true, reminderWindowEnd(), true).values()) {
+                    for (ApplicationDTO row : bucket) {
+                        DeadlineReminderEvent reminder = reminderFor(row);
+                        if (reminder != null) {
+                            reminders.add(reminder);
+                        }
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            log.info("Deadline index rebuilt - {} open applications on {} days from {} to {}, {} overdue before",
+                    rows.size(), buckets.size(), windowStart, horizonEnd, olderOverdue);
+        } finally {
+            lock.lock();
+            try {
+                pendingRebuilds.removeIf(pending -> pending == changes);
+            } finally {
+                lock.unlock();
+            }
+        }
+        reminders.forEach(eventPublisher::publishEvent);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    // saved = null: gelöscht
+    private DeadlineReminderEvent change(ApplicationDTO saved, Long id,
+                                         ApplicationStatus previousStatus, LocalDate previousDeadline) {
+        lock.lock();
+        try {
+            pendingRebuilds.forEach(changes -> changes.add(new Change(id, saved)));
+            Snapshot current = snapshot;
+            if (current == null) {
+                return null;
+            }
+            long olderDelta = (saved != null && isOlderOverdue(current, saved.getStatus(), saved.getDeadline()) ? 1 : 0)
+                    - (isOlderOverdue(current, previousStatus, previousDeadline) ? 1 : 0);
+            if (olderDelta != 0) {
+                olderOverdueChanges++;
+            }
+            TreeMap<LocalDate, List<ApplicationDTO>> buckets = new TreeMap<>(current.buckets());
+            DeadlineReminderEvent reminder = apply(current, buckets, id, saved);
+            snapshot = current.withBuckets(buckets, olderDelta);
+            return reminder;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Unter lock: trägt die Änderung in buckets ein, sofern sie nicht älter als der bekannte Stand ist
+    private DeadlineReminderEvent apply(Snapshot target, NavigableMap<LocalDate, List<ApplicationDTO>> buckets,
+                                        Long id, ApplicationDTO saved) {
+        long version = saved == null ? DELETED : saved.getVersion();
+        ApplicationDTO existing = entries.get(id);
+        Long knownVersion = existing != null ? existing.getVersion() : droppedVersions.get(id);
+        if (knownVersion != null && version < knownVersion) {
+            log.debug("Ignoring outdated change of application {} (version {} < {})", id, version, knownVersion);
+            return null;
+        }
+
+        if (existing != null) {
+            buckets.computeIfPresent(existing.getDeadline(), (day, bucket) -> {
+                List<ApplicationDTO> updated = bucket.stream().filter(row -> !row.getId().equals(id)).toList();
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+        if (saved == null || !target.covers(saved)) {
+            entries.remove(id);
+            droppedVersions.put(id, version);
+            remindedDeadlines.remove(id);
+            return null;
+        }
+        buckets.compute(saved.getDeadline(), (day, bucket) -> {
+            List<ApplicationDTO> updated = bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+            updated.add(saved);
+            updated.sort(BY_ID);
+            return List.copyOf(updated);
+        });
+        entries.put(id, saved);
+        droppedVersions.remove(id);
+        return reminderFor(saved);
+    }
+
+    // Zähler veraltet (Änderung während eines Aufbaus): einmal neu zählen, ohne Sperre
+    private long olderOverdueCount(Snapshot current) {
+        if (!current.olderOverdueStale()) {
+            return current.olderOverdue();
+        }
+        long seen;
+        lock.lock();
+        try {
+            seen = olderOverdueChanges;
+        } finally {
+            lock.unlock();
+        }
+        long count = PrimaryReads.call(() -> applicationRepository.countOpenDeadlinesBefore(
+                current.windowStart(), ApplicationStatus.CLOSED_STATUSES));
+        lock.lock();
+        try {
+            Snapshot latest = snapshot;
+            if (olderOverdueChanges == seen && latest.windowStart().equals(current.windowStart())) {
+                snapshot = latest.withOlderOverdue(count);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return count;
+    }
+
+    private static boolean isOlderOverdue(Snapshot snapshot, ApplicationStatus status, LocalDate deadline) {
+        return status != null && !status.isClosed() && deadline != null && deadline.isBefore(snapshot.windowStart());
+    }
+
+    // Liefert ein Event, wenn die Deadline im Fenster liegt und für diesen Termin noch nicht erinnert wurde
+    private DeadlineReminderEvent reminderFor(ApplicationDTO dto) {
+        LocalDate today = LocalDate.now();
+        LocalDate deadline = dto.getDeadline();
+        if (deadline.isBefore(today) || deadline.isAfter(reminderWindowEnd())
+                || deadline.equals(remindedDeadlines.get(dto.getId()))) {
+            return null;
+        }
+        remindedDeadlines.put(dto.getId(), deadline);
+        return new DeadlineReminderEvent(dto, ChronoUnit.DAYS.between(today, deadline));
+    }
+
+    private LocalDate reminderWindowEnd() {
+        return LocalDate.now().plusDays(reminderDays);
+    }
+
+    private void publish(DeadlineReminderEvent reminder) {
+        if (reminder != null) {
+            eventPublisher.publishEvent(reminder);
+        }
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static void collect(NavigableMap<LocalDate, List<ApplicationDTO>> range, int limit,
+                                List<ApplicationDTO> result) {
+        for (List<ApplicationDTO> bucket : range.values()) {
+            for (ApplicationDTO row : bucket) {
+                if (result.size() >= limit) {
+                    return;
+                }
+                result.add(row);
+            }
+        }
+    }
+
+    private record Change(Long id, ApplicationDTO saved) {
+    }
+
+    /**
+     * Unveränderlicher Stand: Tages-Buckets im Fenster [windowStart, horizonEnd] (unveränderliche,
+     * nach ID sortierte Listen) und die Anzahl offener Bewerbungen mit Deadline vor windowStart.
+     */
+    private record Snapshot(LocalDate windowStart, LocalDate horizonEnd,
+                            NavigableMap<LocalDate, List<ApplicationDTO>> buckets,
+                            long olderOverdue, boolean olderOverdueStale) {
+
+        Snapshot {
+            buckets = Collections.unmodifiableNavigableMap(buckets);
+        }
+
+        boolean covers(ApplicationDTO dto) {
+            return dto.getDeadline() != null && dto.getStatus() != null && !dto.getStatus().isClosed()
+                    && !dto.getDeadline().isBefore(windowStart) && !dto.getDeadline().isAfter(horizonEnd);
+        }
+
+        Snapshot withBuckets(NavigableMap<LocalDate, List<ApplicationDTO>> updated, long olderOverdueDelta) {
+            return new Snapshot(windowStart, horizonEnd, updated, olderOverdue + olderOverdueDelta, olderOverdueStale);
+        }
+
+        Snapshot withOlderOverdue(long count) {
+            return new Snapshot(windowStart, horizonEnd, buckets, count, false);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.event.DeadlineReminderEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Baut den DeadlineIndex beim Start und danach periodisch neu auf
+ * (Standard: stündlich, damit der Tageswechsel neue Deadlines ins Fenster holt).
+ * Dazwischen gleicht er ihn mit Änderungen anderer Instanzen ab (Standard: alle 30 s).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadlineReminderScheduler {
+
+    private final DeadlineIndex deadlineIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        deadlineIndex.rebuild();
+    }
+
+    @Scheduled(cron = "${smartapply.deadlines.refresh-cron:0 0 * * * *}")
+    public void refresh() {
+        deadlineIndex.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${smartapply.deadlines.sync-interval:30s}",
+            initialDelayString = "${smartapply.deadlines.sync-interval:30s}")
+    public void sync() {
+        deadlineIndex.refreshIfChanged();
+    }
+
+    @EventListener
+    public void onReminder(DeadlineReminderEvent event) {
+        log.info("Deadline reminder: {} - {} due in {} day(s) on {}",
+                event.getApplication().getCompanyName(), event.getApplication().getPosition(),
+                event.getDaysLeft(), event.getApplication().getDeadline());
+    }
+}
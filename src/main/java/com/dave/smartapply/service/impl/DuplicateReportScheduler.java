@@ -0,0 +1,30 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.service.DuplicateReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Erstellt den Duplikat-Report periodisch (Standard: nachts um 4:00) und trägt dabei
+ * fehlende Fingerabdrücke für Bestandsdaten nach - einmal schon beim Start, sonst fände die
+ * Duplikatprüfung beim Anlegen bis zum ersten nächtlichen Lauf keine Bestandszeilen.
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicateReportScheduler {
+
+    private final DuplicateReportService duplicateReportService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        duplicateReportService.backfillFingerprints();
+    }
+
+    @Scheduled(cron = "${smartapply.duplicates.cron:0 0 4 * * *}")
+    public void generateReport() {
+        duplicateReportService.generateReport();
+    }
+}
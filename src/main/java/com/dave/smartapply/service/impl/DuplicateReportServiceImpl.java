@@ -0,0 +1,131 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.DuplicateReportDTO;
+import com.dave.smartapply.model.ApplicationFingerprint;
+import com.dave.smartapply.repository.ApplicationFingerprintRepository;
+import com.dave.smartapply.service.DuplicateReportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class DuplicateReportServiceImpl implements DuplicateReportService {
+
+    private static final int MAX_REPORTED_CLUSTERS = 1000;
+
+    private final ApplicationFingerprintRepository fingerprintRepository;
+    private final ApplicationArchive applicationArchive;
+    private final DataChangeCounter dataChangeCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private volatile DuplicateReportDTO latestReport = new DuplicateReportDTO(null, 0, 0, List.of(), false);
+
+    public DuplicateReportServiceImpl(ApplicationFingerprintRepository fingerprintRepository,
+                                      ApplicationArchive applicationArchive,
+                                      DataChangeCounter dataChangeCounter,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${smartapply.duplicates.batch-size:500}") int batchSize) {
+        this.fingerprintRepository = fingerprintRepository;
+        this.applicationArchive = applicationArchive;
+        this.dataChangeCounter = dataChangeCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public DuplicateReportDTO generateReport() {
+        backfillFingerprints();
+
+        // Archivierte Bewerbungen zählen mit - auch sie wurden schon einmal verschickt
+        boolean includeArchive = applicationArchive.isEnabled();
+        List<DuplicateReportDTO.Cluster> clusters = new ArrayList<>();
+        long clusterCount = 0;
+        long duplicateCount = 0;
+        String after = "";
+        List<String> fingerprints;
+        do {
+            fingerprints = fingerprintRepository.findDuplicateFingerprints(includeArchive, after, batchSize);
+            if (fingerprints.isEmpty()) {
+                break;
+            }
+            for (DuplicateReportDTO.Cluster cluster : toClusters(fingerprintRepository.findByFingerprints(includeArchive, fingerprints))) {
+                clusterCount++;
+                duplicateCount += cluster.getApplicationIds().size() - 1;
+                if (clusters.size() < MAX_REPORTED_CLUSTERS) {
+                    clusters.add(cluster);
+                }
+            }
+            after = fingerprints.get(fingerprints.size() - 1);
+        } while (fingerprints.size() == batchSize);
+
+        DuplicateReportDTO report = new DuplicateReportDTO(LocalDateTime.now(), clusterCount, duplicateCount,
+                List.copyOf(clusters), clusterCount > clusters.size());
+        latestReport = report;
+        if (clusterCount > 0) {
+            log.warn("Found {} duplicate clusters ({} redundant applications)", clusterCount, duplicateCount);
+        } else {
+            log.info("No duplicate applications found");
+        }
+        return report;
+    }
+
+    @Override
+    public DuplicateReportDTO getLatestReport() {
+        return latestReport;
+    }
+
+    @Override
+    public int backfillFingerprints() {
+        int backfilled = backfillFingerprints(false);
+        if (applicationArchive.isEnabled()) {
+            backfilled += backfillFingerprints(true);
+        }
+        if (backfilled > 0) {
+            log.info("Computed fingerprints for {} existing applications", backfilled);
+        }
+        return backfilled;
+    }
+
+    // Bestandszeilen von vor V11 - je Batch eine Transaktion mit einem Batch-UPDATE
+    private int backfillFingerprints(boolean archived) {
+        int total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<ApplicationFingerprintRepository.FingerprintSource> rows =
+                        fingerprintRepository.findWithoutFingerprint(archived, batchSize);
+                Map<Long, String> fingerprints = new LinkedHashMap<>();
+                for (ApplicationFingerprintRepository.FingerprintSource row : rows) {
+                    fingerprints.put(row.id(), ApplicationFingerprint.of(row.companyName(), row.position(), row.jobUrl()));
+                }
+                if (!fingerprints.isEmpty()) {
+                    fingerprintRepository.updateFingerprints(archived, fingerprints);
+                    dataChangeCounter.changed();
+                }
+                return fingerprints.size();
+            });
+            total += updated;
+        } while (updated == batchSize);
+        return total;
+    }
+
+    // Mitglieder kommen nach Fingerabdruck und ID sortiert
+    private static List<DuplicateReportDTO.Cluster> toClusters(List<ApplicationFingerprintRepository.ClusterMember> members) {
+        Map<String, DuplicateReportDTO.Cluster> clusters = new LinkedHashMap<>();
+        for (ApplicationFingerprintRepository.ClusterMember member : members) {
+            clusters.computeIfAbsent(member.fingerprint(), fingerprint -> new DuplicateReportDTO.Cluster(
+                    member.companyName(), member.position(), member.jobUrl(), new ArrayList<>()))
+                    .getApplicationIds().add(member.id());
+        }
+        return List.copyOf(clusters.values());
+    }
+}
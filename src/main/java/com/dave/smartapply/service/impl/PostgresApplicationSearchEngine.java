@@ -0,0 +1,43 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.repository.LikePattern;
+import com.dave.smartapply.service.ApplicationSearchEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Locale;
+
+/**
+ * PostgreSQL-Suche über pg_trgm- und tsvector-GIN-Indizes
+ * (siehe Migration V4__add_search_indexes.sql).
+ */
+@RequiredArgsConstructor
+public class PostgresApplicationSearchEngine implements ApplicationSearchEngine {
+
+    private final ApplicationRepository applicationRepository;
+
+    @Override
+    public Slice<ApplicationDTO> search(String term, Pageable pageable) {
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        return applicationRepository.searchRanked(normalized, LikePattern.escape(normalized), pageable)
+                .map(hit -> new ApplicationDTO(
+                        hit.getId(),
+                        hit.getCompanyName(),
+                        hit.getPosition(),
+                        ApplicationStatus.valueOf(hit.getStatus()),
+                        hit.getApplicationDate(),
+                        hit.getDeadline(),
+                        hit.getContactPerson(),
+                        hit.getSalaryExpectation()));
+    }
+
+    @Override
+    public long count(String term) {
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        return applicationRepository.countRanked(normalized, LikePattern.escape(normalized));
+    }
+}
@@ -0,0 +1,32 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.repository.LikePattern;
+import com.dave.smartapply.service.ApplicationSearchEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Locale;
+
+/**
+ * Portable Suche per LIKE für H2 und Tests. Relevanz: exakter Firmenname,
+ * dann Präfix, dann Treffer in Firma, Position und zuletzt in den Notizen.
+ */
+@RequiredArgsConstructor
+public class SimpleApplicationSearchEngine implements ApplicationSearchEngine {
+
+    private final ApplicationRepository applicationRepository;
+
+    @Override
+    public Slice<ApplicationDTO> search(String term, Pageable pageable) {
+        String normalized = term.trim().toLowerCase(Locale.ROOT);
+        return applicationRepository.searchSimple(normalized, LikePattern.escape(normalized), pageable);
+    }
+
+    @Override
+    public long count(String term) {
+        return applicationRepository.countSimple(LikePattern.escape(term.trim().toLowerCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.StatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sammelt die Statuswechsel einer Transaktion im Speicher und schreibt sie kurz vor dem
+ * Commit gebündelt in dieselbe Transaktion: ein Batch-INSERT in die Historie, egal ob ein
+ * Wechsel oder tausend (Import). Bulk-Updates schreiben ihre Historie per INSERT ... SELECT.
+ * Die Historie ist damit genau dann dauerhaft, wenn der Statuswechsel committed ist.
+ *
+ * <p>Die Rollups fasst die Transaktion nicht an - das übernimmt {@link StatusRollupBatcher}
+ * im Hintergrund (Outbox), damit sich Schreiber nicht an den gemeinsamen Zählerzeilen anstellen.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatusHistoryRecorder {
+
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Nach dem Speichern einer neuen Bewerbung (ID und statusChangedAt sind dann gesetzt)
+    public void created(Application application) {
+        append(List.of(new StatusTransitionDTO(application.getId(), null, application.getStatus(),
+                application.getStatusChangedAt(), null)));
+    }
+
+    // Nach dem Setzen des neuen Status auf der (verwalteten) Entity; aktualisiert statusChangedAt
+    public void statusChanged(Application application, ApplicationStatus previousStatus) {
+        if (previousStatus == application.getStatus()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        append(List.of(new StatusTransitionDTO(application.getId(), previousStatus, application.getStatus(),
+                now, secondsBetween(application.getStatusChangedAt(), now))));
+        application.setStatusChangedAt(now);
+    }
+
+    // Bulk-Update: direkt vor dem UPDATE mit demselben Filter, changedAt = im UPDATE gesetzter Zeitpunkt
+    public void bulkChanged(Collection<Long> ids, ApplicationStatus newStatus, LocalDateTime changedAt) {
+        int recorded = statusHistoryRepository.insertForIds(ids, newStatus, changedAt);
+        log.debug("Recorded {} status transitions", recorded);
+    }
+
+    public void bulkChanged(ApplicationStatus currentStatus, LocalDate appliedOnOrBefore,
+                            ApplicationStatus newStatus, LocalDateTime changedAt) {
+        int recorded = statusHistoryRepository.insertForStatusAndApplicationDate(
+                currentStatus, appliedOnOrBefore, newStatus, changedAt);
+        log.debug("Recorded {} status transitions", recorded);
+    }
+
+    private void append(List<StatusTransitionDTO> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> write(transitions));
+            return;
+        }
+        pendingTransitions().addAll(transitions);
+    }
+
+    // Puffer der laufenden Transaktion; beim ersten Wechsel angelegt und vor dem Commit geschrieben
+    @SuppressWarnings("unchecked")
+    private List<StatusTransitionDTO> pendingTransitions() {
+        List<StatusTransitionDTO> pending = (List<StatusTransitionDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<StatusTransitionDTO> buffer = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, buffer);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(StatusHistoryRecorder.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(StatusHistoryRecorder.this, buffer);
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(buffer);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(StatusHistoryRecorder.this);
+            }
+        });
+        return buffer;
+    }
+
+    private void write(List<StatusTransitionDTO> transitions) {
+        statusHistoryRepository.insertAll(transitions);
+        log.debug("Recorded {} status transitions", transitions.size());
+    }
+
+    private static Long secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return from != null ? Math.max(0, Duration.between(from, to).toSeconds()) : null;
+    }
+}
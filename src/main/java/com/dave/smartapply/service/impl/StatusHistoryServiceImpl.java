@@ -0,0 +1,81 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.dto.StatusFunnelDTO;
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.StatusHistoryRepository;
+import com.dave.smartapply.service.StatusHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatusHistoryServiceImpl implements StatusHistoryService {
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final StatusHistoryRepository statusHistoryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusTransitionDTO> getHistory(Long applicationId) {
+        log.debug("Fetching status history for application ID: {}", applicationId);
+        return statusHistoryRepository.findByApplicationId(applicationId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StatusFunnelDTO getFunnel() {
+        List<StatusHistoryRepository.RollupRow> rows = statusHistoryRepository.findRollup();
+
+        Map<ApplicationStatus, long[]> entered = new EnumMap<>(ApplicationStatus.class);
+        // Ausgänge je Status: Anzahl und Summe der Verweildauer; null-Schlüssel (Anlage) separat
+        Map<ApplicationStatus, long[]> exited = new EnumMap<>(ApplicationStatus.class);
+        long created = 0;
+        for (StatusHistoryRepository.RollupRow row : rows) {
+            entered.computeIfAbsent(row.toStatus(), status -> new long[1])[0] += row.transitions();
+            if (row.fromStatus() == null) {
+                created += row.transitions();
+            } else {
+                long[] exit = exited.computeIfAbsent(row.fromStatus(), status -> new long[2]);
+                exit[0] += row.transitions();
+                exit[1] += row.totalSeconds();
+            }
+        }
+
+        List<StatusFunnelDTO.Stage> stages = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            long[] exit = exited.getOrDefault(status, new long[2]);
+            stages.add(new StatusFunnelDTO.Stage(
+                    status,
+                    entered.getOrDefault(status, new long[1])[0],
+                    exit[0],
+                    exit[0] > 0 ? exit[1] / SECONDS_PER_HOUR / exit[0] : null));
+        }
+
+        List<StatusFunnelDTO.Transition> transitions = new ArrayList<>();
+        for (StatusHistoryRepository.RollupRow row : rows) {
+            long total = row.fromStatus() == null ? created : exited.get(row.fromStatus())[0];
+            transitions.add(new StatusFunnelDTO.Transition(
+                    row.fromStatus(),
+                    row.toStatus(),
+                    row.transitions(),
+                    (double) row.transitions() / total,
+                    row.fromStatus() != null ? row.totalSeconds() / SECONDS_PER_HOUR / row.transitions() : null));
+        }
+        transitions.sort(Comparator
+                .comparing((StatusFunnelDTO.Transition transition) -> transition.getFromStatus() == null ? -1
+                        : transition.getFromStatus().ordinal())
+                .thenComparing(StatusFunnelDTO.Transition::getToStatus));
+        return new StatusFunnelDTO(stages, transitions);
+    }
+}
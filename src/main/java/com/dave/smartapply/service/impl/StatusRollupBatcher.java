@@ -0,0 +1,58 @@
+package com.dave.smartapply.service.impl;
+
+import com.dave.smartapply.repository.StatusHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fasst neue Einträge der Statushistorie in die Funnel-Rollups zusammen (Outbox-Muster):
+ * Statuswechsel hängen nur an die Historie an, dieser Job zählt sie periodisch
+ * (Standard: alle 10 s) in Batches je eigener Transaktion hoch und markiert sie als erledigt.
+ * Bis dahin rechnet der Funnel den Rückstand aus der Historie dazu.
+ */
+@Component
+@Slf4j
+public class StatusRollupBatcher {
+
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public StatusRollupBatcher(StatusHistoryRepository statusHistoryRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${smartapply.status-history.rollup-batch-size:1000}") int batchSize) {
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${smartapply.status-history.rollup-interval:10s}")
+    public int rollUp() {
+        int total = 0;
+        int rolledUp;
+        do {
+            rolledUp = transactionTemplate.execute(status -> rollUpBatch());
+            total += rolledUp;
+        } while (rolledUp == batchSize);
+
+        if (total > 0) {
+            log.debug("Rolled up {} status transitions", total);
+        }
+        return total;
+    }
+
+    private int rollUpBatch() {
+        List<StatusHistoryRepository.PendingTransition> pending = statusHistoryRepository.lockPending(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        statusHistoryRepository.addToRollup(pending.stream().map(StatusHistoryRepository.PendingTransition::transition).toList());
+        statusHistoryRepository.markRolledUp(pending.stream().map(StatusHistoryRepository.PendingTransition::id).toList());
+        return pending.size();
+    }
+}
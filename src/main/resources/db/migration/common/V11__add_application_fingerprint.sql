@@ -0,0 +1,6 @@
+-- Normalisierter Fingerabdruck aus Firma, Position und Stellen-URL (ApplicationFingerprint) für die
+-- Duplikatprüfung beim Anlegen und Importieren. Kein UNIQUE: bestehende Duplikate bleiben erhalten und
+-- werden vom DuplicateReportScheduler gemeldet, der auch die Werte für Bestandszeilen nachträgt.
+ALTER TABLE applications ADD COLUMN fingerprint VARCHAR(64);
+
+CREATE INDEX idx_applications_fingerprint ON applications (fingerprint);
@@ -0,0 +1,3 @@
+-- ETags der REST-API für Listen und Statistiken leiten sich aus Anzahl und MAX(updated_at) ab
+-- (gleich auf allen Instanzen); der Index macht MAX(updated_at) zu einem einzelnen Index-Zugriff.
+CREATE INDEX idx_applications_updated_at ON applications (updated_at);
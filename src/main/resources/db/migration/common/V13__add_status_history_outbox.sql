@@ -0,0 +1,5 @@
+-- Die Historie dient als Outbox für die Rollups: neue Einträge sind noch nicht aufsummiert,
+-- StatusRollupBatcher zählt sie im Hintergrund in application_status_rollup und markiert sie.
+-- Der Bestand ist bereits in den Rollups enthalten (V8).
+ALTER TABLE application_status_history ADD COLUMN rolled_up BOOLEAN NOT NULL DEFAULT TRUE;
+ALTER TABLE application_status_history ALTER COLUMN rolled_up SET DEFAULT FALSE;
@@ -0,0 +1,3 @@
+-- Die Liste (ungefiltert und für abgeschlossene Status) führt ihre Keyset-Seiten mit dem Archiv
+-- zusammen; der Index liefert je Seite nur die ersten Zeilen statt das Archiv zu sortieren.
+CREATE INDEX idx_applications_archive_page ON applications_archive (application_date, id);
@@ -0,0 +1,6 @@
+-- Das Archiv (V9) übernimmt den Fingerabdruck (V11) beim Verschieben und gibt ihn beim Zurückholen
+-- mit zurück; Duplikatprüfung und Duplikat-Report lesen beide Tabellen. Zeilen, die vor dieser
+-- Migration archiviert wurden, trägt der Backfill beim Start nach.
+ALTER TABLE applications_archive ADD COLUMN fingerprint VARCHAR(64);
+
+CREATE INDEX idx_applications_archive_fingerprint ON applications_archive (fingerprint);
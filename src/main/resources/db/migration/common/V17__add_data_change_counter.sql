@@ -0,0 +1,11 @@
+-- Änderungszähler für die ETags der REST-API: eine Zeile, die jede schreibende Transaktion
+-- einmal vor dem Commit hochzählt. Ein bedingter GET liest nur diese Zeile statt
+-- Anzahl und MAX(updated_at) über Bewerbungen und Archiv zu bilden.
+CREATE TABLE data_change_counter (
+    id      SMALLINT NOT NULL PRIMARY KEY,
+    version BIGINT   NOT NULL
+);
+INSERT INTO data_change_counter (id, version) VALUES (1, 0);
+
+-- Nur für das bisherige MAX(updated_at) angelegt (V12)
+DROP INDEX idx_applications_updated_at;
@@ -0,0 +1,17 @@
+-- Basisschema der Tabelle applications (entspricht dem bisher per ddl-auto erzeugten Schema)
+CREATE TABLE IF NOT EXISTS applications (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_name       VARCHAR(200)  NOT NULL,
+    position           VARCHAR(200)  NOT NULL,
+    status             VARCHAR(50)   NOT NULL,
+    application_date   DATE          NOT NULL,
+    deadline           DATE,
+    contact_person     VARCHAR(100),
+    contact_email      VARCHAR(100),
+    contact_phone      VARCHAR(100),
+    notes              VARCHAR(2000),
+    job_url            VARCHAR(500),
+    salary_expectation INTEGER       NOT NULL,
+    created_at         TIMESTAMP(6)  NOT NULL,
+    updated_at         TIMESTAMP(6)  NOT NULL
+);
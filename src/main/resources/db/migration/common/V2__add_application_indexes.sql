@@ -0,0 +1,8 @@
+-- Listen-Sortierung und Keyset-Pagination über (application_date, id)
+CREATE INDEX idx_applications_app_date_id ON applications (application_date DESC, id DESC);
+
+-- findByStatus, countByStatus, Status-Histogramm und Status-Filter mit Keyset-Pagination
+CREATE INDEX idx_applications_status_app_date ON applications (status, application_date DESC, id DESC);
+
+-- Deadline-Bereichsabfragen (anstehend / überfällig)
+CREATE INDEX idx_applications_deadline_status ON applications (deadline, status);
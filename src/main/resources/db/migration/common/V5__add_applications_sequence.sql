@@ -0,0 +1,2 @@
+-- Sequenz für Hibernate (pooled-lo, allocationSize = 50), ersetzt IDENTITY für gebatchte Inserts
+CREATE SEQUENCE applications_seq START WITH 1 INCREMENT BY 50;
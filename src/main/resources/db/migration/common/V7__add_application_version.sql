@@ -0,0 +1,2 @@
+-- Versionsspalte für Optimistic Locking
+ALTER TABLE applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,43 @@
+-- Statushistorie (append-only) und inkrementell gepflegte Rollups für Funnel-Auswertungen
+
+-- Zeitpunkt des letzten Statuswechsels, Grundlage der Verweildauer je Status
+ALTER TABLE applications ADD COLUMN status_changed_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP;
+UPDATE applications SET status_changed_at = updated_at;
+
+-- Ein Eintrag je Statuswechsel; from_status NULL = Anlage. Ohne Fremdschlüssel, damit die
+-- Historie gelöschte Bewerbungen überdauert.
+CREATE TABLE application_status_history (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id      BIGINT       NOT NULL,
+    from_status         VARCHAR(50),
+    to_status           VARCHAR(50)  NOT NULL,
+    changed_at          TIMESTAMP(6) NOT NULL,
+    seconds_in_previous BIGINT
+);
+CREATE INDEX idx_status_history_application ON application_status_history (application_id, changed_at);
+
+-- Je Übergang: Anzahl und Summe der Verweildauer im Ausgangsstatus ('NEW' = Anlage).
+-- Alle Kombinationen werden vorab angelegt, Schreiber erhöhen nur per UPDATE.
+CREATE TABLE application_status_rollup (
+    from_status   VARCHAR(50) NOT NULL,
+    to_status     VARCHAR(50) NOT NULL,
+    transitions   BIGINT      NOT NULL DEFAULT 0,
+    total_seconds BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (from_status, to_status)
+);
+
+INSERT INTO application_status_rollup (from_status, to_status)
+SELECT f.status, t.status
+FROM (VALUES ('NEW'), ('DRAFT'), ('APPLIED'), ('INTERVIEW_SCHEDULED'), ('INTERVIEW_DONE'),
+             ('OFFER_RECEIVED'), ('ACCEPTED'), ('REJECTED')) AS f(status)
+CROSS JOIN (VALUES ('DRAFT'), ('APPLIED'), ('INTERVIEW_SCHEDULED'), ('INTERVIEW_DONE'),
+                   ('OFFER_RECEIVED'), ('ACCEPTED'), ('REJECTED')) AS t(status)
+WHERE f.status <> t.status;
+
+-- Bestand: der aktuelle Status zählt als Anlage (frühere Wechsel sind nicht bekannt)
+INSERT INTO application_status_history (application_id, from_status, to_status, changed_at)
+SELECT id, NULL, status, status_changed_at FROM applications;
+
+UPDATE application_status_rollup
+SET transitions = (SELECT COUNT(*) FROM applications a WHERE a.status = application_status_rollup.to_status)
+WHERE from_status = 'NEW';
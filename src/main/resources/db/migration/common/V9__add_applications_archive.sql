@@ -0,0 +1,22 @@
+-- Kalter Bestand: abgeschlossene Bewerbungen, die der Archivierungsjob (ApplicationArchive)
+-- aus applications verschiebt. Gleiche Spalten, aber nur der Primärschlüssel als Index -
+-- die Tabelle wird nur per ID gelesen oder selten durchsucht.
+CREATE TABLE applications_archive (
+    id                 BIGINT        PRIMARY KEY,
+    company_name       VARCHAR(200)  NOT NULL,
+    position           VARCHAR(200)  NOT NULL,
+    status             VARCHAR(50)   NOT NULL,
+    application_date   DATE          NOT NULL,
+    deadline           DATE,
+    contact_person     VARCHAR(100),
+    contact_email      VARCHAR(100),
+    contact_phone      VARCHAR(100),
+    notes              VARCHAR(2000),
+    job_url            VARCHAR(500),
+    salary_expectation INTEGER       NOT NULL,
+    created_at         TIMESTAMP(6)  NOT NULL,
+    updated_at         TIMESTAMP(6)  NOT NULL,
+    status_changed_at  TIMESTAMP(6)  NOT NULL,
+    version            BIGINT        NOT NULL,
+    archived_at        TIMESTAMP(6)  NOT NULL
+);
@@ -0,0 +1,3 @@
+-- Partieller Index für den Archivierungsjob: nur abgeschlossene Bewerbungen, nach Abschlusszeitpunkt
+CREATE INDEX idx_applications_closed_status_changed ON applications (status_changed_at, id)
+    WHERE status IN ('ACCEPTED', 'REJECTED');
@@ -0,0 +1,3 @@
+-- Partieller Index für StatusRollupBatcher und den Funnel: nur noch nicht aufsummierte Einträge
+CREATE INDEX idx_status_history_pending ON application_status_history (id)
+    WHERE NOT rolled_up;
@@ -0,0 +1,3 @@
+-- Partieller Index nur über offene Bewerbungen (findByStatusNotIn..., Dashboard "offen")
+CREATE INDEX idx_applications_open_app_date ON applications (application_date DESC, id DESC)
+    WHERE status NOT IN ('ACCEPTED', 'REJECTED');
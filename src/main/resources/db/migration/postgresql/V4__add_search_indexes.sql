@@ -0,0 +1,11 @@
+-- Trigram-Indizes für Teilstring-Suche (lower(x) LIKE '%term%') auf Firma und Position
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_applications_company_trgm ON applications USING gin (lower(company_name) gin_trgm_ops);
+
+CREATE INDEX idx_applications_position_trgm ON applications USING gin (lower(position) gin_trgm_ops);
+
+-- Volltextindex über Firma, Position und Notizen
+CREATE INDEX idx_applications_search_tsv ON applications USING gin (
+    to_tsvector('simple', coalesce(company_name, '') || ' ' || coalesce(position, '') || ' ' || coalesce(notes, ''))
+);
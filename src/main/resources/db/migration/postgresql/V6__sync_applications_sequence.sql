@@ -0,0 +1,2 @@
+-- Sequenz hinter die bereits per IDENTITY vergebenen IDs setzen
+SELECT setval('applications_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM applications), false);
@@ -16,8 +16,8 @@ document.addEventListener('DOMContentLoaded', function() {
     // Add smooth scroll behavior
     document.documentElement.style.scrollBehavior = 'smooth';
 
-    // Form validation enhancements
-    const forms = document.querySelectorAll('form');
+    // Form validation enhancements (Status-Formulare werden per AJAX gesendet, siehe unten)
+    const forms = document.querySelectorAll('form:not([data-status-form])');
     forms.forEach(form => {
         form.addEventListener('submit', function(e) {
             const submitBtn = form.querySelector('button[type="submit"]');
@@ -34,9 +34,174 @@ document.addEventListener('DOMContentLoaded', function() {
         const today = new Date().toISOString().split('T')[0];
         applicationDateInput.value = today;
     }
+
+    initStatusForms();
+    initLiveUpdates();
 });
 
 // Confirm delete actions
 function confirmDelete(message) {
     return confirm(message || 'Möchten Sie diesen Eintrag wirklich löschen?');
+}
+
+// Status ändern ohne Seitenreload - die Anzeige aktualisiert sich über das Live-Update
+function initStatusForms() {
+    document.querySelectorAll('form[data-status-form]').forEach(form => {
+        form.addEventListener('submit', function(e) {
+            e.preventDefault();
+            const submitBtn = form.querySelector('button[type="submit"]');
+            if (submitBtn) {
+                submitBtn.disabled = true;
+            }
+            fetch(form.action, {
+                method: 'POST',
+                headers: { 'X-Requested-With': 'XMLHttpRequest' },
+                body: new URLSearchParams(new FormData(form))
+            })
+                .then(response => {
+                    if (!response.ok) {
+                        throw new Error('HTTP ' + response.status);
+                    }
+                    return response.json();
+                })
+                .then(application => {
+                    const select = form.querySelector('select[name="status"]');
+                    const label = select ? select.options[select.selectedIndex].text : application.status;
+                    patchApplication(application, label);
+                })
+                .catch(() => showLiveNotice('Fehler beim Status-Update', 'alert-error'))
+                .finally(() => {
+                    if (submitBtn) {
+                        submitBtn.disabled = false;
+                    }
+                });
+        });
+    });
+}
+
+// Live-Updates per Server-Sent Events: nur auf Seiten mit data-live-updates
+function initLiveUpdates() {
+    if (!window.EventSource || !document.querySelector('[data-live-updates]')) {
+        return;
+    }
+    const source = new EventSource('/applications/events');
+    source.addEventListener('application', e => applyApplicationEvent(JSON.parse(e.data)));
+    source.addEventListener('deadline', e => {
+        const application = JSON.parse(e.data);
+        showLiveNotice('Deadline bald fällig: ' + application.companyName + ' (' + formatDate(application.deadline) + ')');
+    });
+}
+
+function applyApplicationEvent(event) {
+    updateStatistics(event.statistics);
+    switch (event.type) {
+        case 'CREATED':
+            insertApplicationCard(event.application, event.statusLabel);
+            break;
+        case 'DELETED':
+            removeApplication(event.id);
+            break;
+        case 'BULK_UPDATED':
+            showLiveNotice('Mehrere Bewerbungen wurden geändert.', 'alert-success', true);
+            break;
+        default:
+            patchApplication(event.application, event.statusLabel);
+    }
+}
+
+function updateStatistics(statistics) {
+    if (!statistics) {
+        return;
+    }
+    document.querySelectorAll('[data-stat]').forEach(element => {
+        const value = statistics[element.dataset.stat];
+        if (value !== undefined) {
+            element.textContent = value;
+        }
+    });
+}
+
+function applicationElements(id) {
+    return document.querySelectorAll('[data-application-id="' + id + '"]');
+}
+
+function patchApplication(application, statusLabel) {
+    applicationElements(application.id).forEach(element => {
+        const company = element.querySelector('.company-name');
+        if (company) {
+            company.textContent = application.companyName;
+        }
+        const position = element.querySelector('.position-title');
+        if (position) {
+            position.textContent = application.position;
+        }
+        const badge = element.querySelector('.status-badge');
+        if (badge && application.status) {
+            badge.className = 'status-badge status-' + application.status.toLowerCase();
+            badge.textContent = statusLabel || application.status;
+        }
+    });
+}
+
+function removeApplication(id) {
+    applicationElements(id).forEach(element => {
+        if (element.classList.contains('application-card')) {
+            element.remove();
+        } else {
+            showLiveNotice('Diese Bewerbung wurde gelöscht.', 'alert-error');
+        }
+    });
+}
+
+// Neue Karte in die ungefilterte Liste einfügen (Aufbau wie in list.html)
+function insertApplicationCard(application, statusLabel) {
+    const grid = document.querySelector('[data-live-insert="true"]');
+    if (!grid || applicationElements(application.id).length > 0) {
+        return;
+    }
+    const card = document.createElement('div');
+    card.className = 'application-card';
+    card.dataset.applicationId = application.id;
+    card.innerHTML =
+        '<div class="application-header">' +
+        '<div><h3 class="company-name"></h3><p class="position-title"></p></div>' +
+        '<span class="status-badge"></span>' +
+        '</div>' +
+        '<div class="application-meta">' +
+        '<div class="meta-item"><i class="fas fa-calendar meta-icon"></i><span class="application-date"></span></div>' +
+        '</div>' +
+        '<div style="display: flex; gap: var(--spacing-sm); margin-top: var(--spacing-lg);">' +
+        '<a class="btn btn-secondary btn-sm" style="flex: 1;"><i class="fas fa-eye"></i> Details</a>' +
+        '</div>';
+    card.querySelector('.application-date').textContent = 'Beworben am: ' + formatDate(application.applicationDate);
+    card.querySelector('a').href = '/applications/' + application.id;
+    grid.prepend(card);
+    patchApplication(application, statusLabel);
+}
+
+function showLiveNotice(message, alertClass, withReload) {
+    const container = document.querySelector('main .container');
+    if (!container) {
+        return;
+    }
+    const notice = document.createElement('div');
+    notice.className = 'alert ' + (alertClass || 'alert-success');
+    notice.textContent = message + ' ';
+    if (withReload) {
+        const link = document.createElement('a');
+        link.href = window.location.href;
+        link.textContent = 'Neu laden';
+        notice.appendChild(link);
+    }
+    container.prepend(notice);
+    setTimeout(() => notice.remove(), 8000);
+}
+
+// yyyy-MM-dd -> dd.MM.yyyy
+function formatDate(isoDate) {
+    if (!isoDate) {
+        return '';
+    }
+    const [year, month, day] = isoDate.split('-');
+    return day + '.' + month + '.' + year;
 }
\ No newline at end of file
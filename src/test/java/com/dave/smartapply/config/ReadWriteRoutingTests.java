@@ -0,0 +1,145 @@
+package com.dave.smartapply.config;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.support.IntegrationTest;
+import jakarta.servlet.http.Cookie;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read/Write-Routing mit zwei In-Memory-Datenbanken: "smartapply" als Primary und
+ * "replica" als Lese-Replikat ohne echte Replikation. Zeilen, die nur in einer der beiden
+ * Datenbanken stehen, zeigen, wohin eine Query gegangen ist.
+ */
+@IntegrationTest(properties = {
+        "smartapply.datasource.routing.enabled=true",
+        "smartapply.datasource.routing.replicas[0].url=" + ReadWriteRoutingTests.REPLICA_URL,
+        "smartapply.datasource.routing.lag-query=SELECT seconds FROM replica_lag",
+        "smartapply.datasource.routing.max-lag=5s",
+        "smartapply.datasource.routing.lag-check-interval=1h",
+        "smartapply.datasource.routing.read-your-writes=1m"
+})
+class ReadWriteRoutingTests {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_ONLY_COMPANY = "Nur im Replikat";
+
+    private static final JdbcTemplate replica;
+
+    static {
+        DataSource replicaDataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration/common")
+                .load()
+                .migrate();
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ReplicaDataSources replicaDataSources;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @BeforeEach
+    void setUp() {
+        replica.update("UPDATE replica_lag SET seconds = 0");
+        replica.update("INSERT INTO applications (id, company_name, position, status, application_date, "
+                        + "salary_expectation, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                900_001L, REPLICA_ONLY_COMPANY, "Developer", ApplicationStatus.APPLIED.name(),
+                LocalDate.now(), 50000, LocalDateTime.now(), LocalDateTime.now());
+        replicaDataSources.checkLag();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        RequestContextHolder.resetRequestAttributes();
+        replica.update("DELETE FROM applications");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplica() {
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).hasSize(1);
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(
+                "SELECT COUNT(*) FROM applications", Long.class)).isZero();
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromPrimary() {
+        MockHttpServletResponse response = startRequest();
+        Application saved = applicationService.createApplication(anApplication().build());
+        Cookie lastWrite = response.getCookie(ReadWriteRoutingDataSource.LAST_WRITE_COOKIE);
+        assertThat(lastWrite).isNotNull();
+        assertThat(lastWrite.getMaxAge()).isEqualTo(60);
+
+        // gleicher Request und Folge-Request mit dem Cookie: Primary
+        assertThat(applicationService.getApplicationById(saved.getId())).isPresent();
+        startRequest(lastWrite);
+        assertThat(applicationService.getApplicationById(saved.getId())).isPresent();
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).isEmpty();
+
+        // anderer Client ohne Cookie: Replikat, das die neue Zeile (noch) nicht hat
+        startRequest();
+        assertThat(applicationService.getApplicationById(saved.getId())).isEmpty();
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).hasSize(1);
+    }
+
+    @Test
+    void cacheLoadersAndVersionLookupsUsePrimary() {
+        assertThat(applicationService.getApplicationVersion(900_001L)).isEmpty();
+        assertThat(applicationService.getStatistics().getTotalCount()).isZero();
+        assertThat(applicationService.getApplicationsByStatus(ApplicationStatus.APPLIED)).isEmpty();
+
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).hasSize(1);
+    }
+
+    @Test
+    void laggingReplicaIsSkipped() {
+        replica.update("UPDATE replica_lag SET seconds = 60");
+        replicaDataSources.checkLag();
+
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).isEmpty();
+
+        replica.update("UPDATE replica_lag SET seconds = 1");
+        replicaDataSources.checkLag();
+
+        assertThat(applicationService.searchByCompanyName(REPLICA_ONLY_COMPANY)).hasSize(1);
+    }
+
+    private static MockHttpServletResponse startRequest(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+}
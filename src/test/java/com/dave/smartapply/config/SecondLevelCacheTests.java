@@ -0,0 +1,115 @@
+package com.dave.smartapply.config;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.support.QueryCountingConfiguration;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.dave.smartapply.support.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Second-Level- und Query-Cache: wiederholte Zugriffe kommen ohne SQL aus,
+ * Änderungen und Löschungen sind sofort sichtbar.
+ */
+@SpringBootTest(properties = "smartapply.second-level-cache.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+class SecondLevelCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long applicationId;
+
+    @BeforeEach
+    void seed() {
+        Application application = new Application();
+        application.setCompanyName("Cached GmbH");
+        application.setPosition("Developer");
+        application.setStatus(ApplicationStatus.APPLIED);
+        application.setApplicationDate(LocalDate.now());
+        application.setSalaryExpectation(50000);
+        applicationId = applicationRepository.save(application).getId();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void hotDetailPageIsServedFromCache() throws Throwable {
+        mockMvc.perform(get("/applications/{id}", applicationId)).andExpect(status().isOk());
+
+        assertMaxQueries(0, () -> mockMvc.perform(get("/applications/{id}", applicationId))
+                .andExpect(status().isOk()));
+        FunctionCounter hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("result", "hit", "region", SecondLevelCacheConfig.APPLICATION_REGION)
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isPositive();
+    }
+
+    @Test
+    void updatesAndDeletesAreVisibleImmediately() {
+        applicationService.getApplicationById(applicationId);
+
+        applicationService.updateStatus(applicationId, ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(applicationService.getApplicationById(applicationId))
+                .get()
+                .extracting(Application::getStatus)
+                .isEqualTo(ApplicationStatus.INTERVIEW_SCHEDULED);
+
+        applicationService.deleteApplication(applicationId);
+        assertThat(applicationService.getApplicationById(applicationId)).isEmpty();
+    }
+
+    @Test
+    void statusFinderUsesQueryCacheUntilTableChanges() throws Throwable {
+        assertThat(applicationService.getApplicationsByStatus(ApplicationStatus.APPLIED)).hasSize(1);
+        assertMaxQueries(0, () -> applicationService.getApplicationsByStatus(ApplicationStatus.APPLIED));
+
+        // Bulk-UPDATE invalidiert die Query-Ergebnisse und die Entity-Region
+        applicationService.bulkUpdateStatus(List.of(applicationId), ApplicationStatus.REJECTED);
+
+        assertThat(applicationService.getApplicationsByStatus(ApplicationStatus.APPLIED)).isEmpty();
+        assertThat(applicationService.getApplicationById(applicationId))
+                .get()
+                .extracting(Application::getStatus)
+                .isEqualTo(ApplicationStatus.REJECTED);
+    }
+}
@@ -0,0 +1,157 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * HTTP-Verhalten der JSON-API: ETags (304/412), Fehlerantworten, Versions-Header und gzip.
+ * Läuft auf einem echten Port, weil die Kompression im eingebetteten Server passiert.
+ */
+@IntegrationTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+class ApplicationApiControllerTests {
+
+    private static final String API_VERSION = "API-Version";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void listAnswersNotModifiedUntilTheDataChanges() throws Exception {
+        Application application = applicationService.createApplication(anApplication().build());
+        String eTag = mockMvc.perform(get("/api/applications"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/applications").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        applicationService.deleteApplication(application.getId());
+        String changed = mockMvc.perform(get("/api/applications").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void detailAnswersNotModifiedForItsVersion() throws Exception {
+        Application application = applicationService.createApplication(anApplication().build());
+        String eTag = versionETag(application.getId(), application.getVersion());
+
+        mockMvc.perform(get("/api/applications/{id}", application.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        mockMvc.perform(get("/api/applications/{id}", application.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void staleIfMatchIsRejected() throws Exception {
+        Application application = applicationService.createApplication(anApplication().build());
+        String staleETag = versionETag(application.getId(), application.getVersion());
+        Application current = applicationService.updateStatus(application.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
+
+        mockMvc.perform(put("/api/applications/{id}/status", application.getId())
+                        .header(HttpHeaders.IF_MATCH, staleETag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"REJECTED\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, versionETag(application.getId(), current.getVersion())));
+
+        assertThat(applicationService.getApplicationById(application.getId())).get()
+                .extracting(Application::getStatus).isEqualTo(ApplicationStatus.INTERVIEW_SCHEDULED);
+    }
+
+    @Test
+    void duplicateCreateAnswersConflictWithTheExistingApplication() throws Exception {
+        String body = "{\"companyName\": \"API GmbH\", \"position\": \"Developer\", \"salaryExpectation\": 50000}";
+        String location = mockMvc.perform(post("/api/applications").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        long existingId = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+
+        mockMvc.perform(post("/api/applications").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.LOCATION, endsWith("/api/applications/" + existingId)))
+                .andExpect(jsonPath("$.existingApplicationId").value(existingId));
+    }
+
+    @Test
+    void unknownApplicationAnswersNotFound() throws Exception {
+        mockMvc.perform(get("/api/applications/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/api/applications/{id}/status", Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"REJECTED\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void apiVersionHeaderSelectsTheVersion() throws Exception {
+        mockMvc.perform(get("/api/applications").header(API_VERSION, "1"))
+                .andExpect(status().isOk());
+        // Ohne Header gilt Version 1
+        mockMvc.perform(get("/api/applications"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/applications").header(API_VERSION, "2"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void largeResponsesAreCompressed() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            applicationService.createApplication(anApplication().notes("Notiz " + i).build());
+        }
+
+        HttpResponse<InputStream> response = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + port + "/api/applications?size=20"))
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(API_VERSION, "1")
+                        .build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("\"companyName\":\"Firma ");
+        }
+    }
+
+    private static String versionETag(Long id, Long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+}
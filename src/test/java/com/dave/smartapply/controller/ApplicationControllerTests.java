@@ -0,0 +1,79 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.exception.ApplicationNotFoundException;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.ApplicationService;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fehlerabbildung des Status-Updates per AJAX (app.js): 404, 409 und 400 statt pauschal 400.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class ApplicationControllerTests {
+
+    private static final long ID = 42L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApplicationService applicationService;
+
+    @Test
+    void asyncStatusUpdateReturnsTheApplication() throws Exception {
+        Application application = anApplication().status(ApplicationStatus.INTERVIEW_SCHEDULED).build();
+        application.setId(ID);
+        when(applicationService.updateStatus(ID, ApplicationStatus.INTERVIEW_SCHEDULED)).thenReturn(application);
+
+        mockMvc.perform(asyncStatusUpdate("INTERVIEW_SCHEDULED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("INTERVIEW_SCHEDULED"));
+    }
+
+    @Test
+    void asyncStatusUpdateOfUnknownApplicationIsNotFound() throws Exception {
+        when(applicationService.updateStatus(ID, ApplicationStatus.REJECTED))
+                .thenThrow(new ApplicationNotFoundException(ID));
+
+        mockMvc.perform(asyncStatusUpdate("REJECTED")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void asyncStatusUpdateConflictsAreReportedAsConflict() throws Exception {
+        when(applicationService.updateStatus(ID, ApplicationStatus.REJECTED))
+                .thenThrow(new ApplicationConflictException(ID, 1L, 2L));
+        mockMvc.perform(asyncStatusUpdate("REJECTED")).andExpect(status().isConflict());
+
+        // Retries ausgeschöpft
+        when(applicationService.updateStatus(ID, ApplicationStatus.OFFER_RECEIVED))
+                .thenThrow(new OptimisticLockingFailureException("version changed"));
+        mockMvc.perform(asyncStatusUpdate("OFFER_RECEIVED")).andExpect(status().isConflict());
+    }
+
+    @Test
+    void asyncStatusUpdateWithInvalidStatusIsBadRequest() throws Exception {
+        mockMvc.perform(asyncStatusUpdate("UNKNOWN")).andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequestBuilder asyncStatusUpdate(String status) {
+        return post("/applications/{id}/status", ID)
+                .header("X-Requested-With", "XMLHttpRequest")
+                .param("status", status);
+    }
+}
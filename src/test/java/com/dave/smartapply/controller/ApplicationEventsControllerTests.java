@@ -0,0 +1,171 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.dto.ApplicationEventDTO;
+import com.dave.smartapply.dto.ApplicationStatisticsDTO;
+import com.dave.smartapply.event.ApplicationChangedEvent;
+import com.dave.smartapply.service.ApplicationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verteilung der Live-Updates: Reihenfolge je Client, Abkoppeln langsamer Clients über den
+ * begrenzten Puffer und Heartbeat. Ohne Spring-Kontext; die Emitter zeichnen auf, was gesendet wird.
+ */
+class ApplicationEventsControllerTests {
+
+    // CLIENT_BUFFER_SIZE plus ein Event, das der blockierte Versand bereits entnommen hat
+    private static final int OVERFLOWING_EVENT_COUNT = 34;
+
+    private ExecutorService executor;
+    private ApplicationEventsController controller;
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ApplicationService applicationService = mock(ApplicationService.class);
+        when(applicationService.getStatistics()).thenReturn(new ApplicationStatisticsDTO(Map.of()));
+        executor = Executors.newFixedThreadPool(4);
+        controller = new ApplicationEventsController(applicationService, new ConcurrentTaskExecutor(executor)) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.remove(0);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void eventsArriveInPublishOrder() {
+        RecordingEmitter first = connect(new RecordingEmitter());
+        RecordingEmitter second = connect(new RecordingEmitter());
+
+        List<Long> ids = LongStream.rangeClosed(1, 20).boxed().toList();
+        ids.forEach(id -> controller.onApplicationChanged(changed(id)));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> second.sent.size() == ids.size());
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.sent.size() == ids.size());
+        assertThat(first.sent).containsExactlyElementsOf(ids);
+        assertThat(second.sent).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void slowClientIsDroppedWithoutHoldingUpTheOthers() {
+        RecordingEmitter slow = connect(new RecordingEmitter(new CountDownLatch(1)));
+        RecordingEmitter fast = connect(new RecordingEmitter());
+
+        // Im Gleichschritt mit dem schnellen Client, damit unter Last nur der blockierte überläuft
+        List<Long> ids = LongStream.rangeClosed(1, OVERFLOWING_EVENT_COUNT).boxed().toList();
+        ids.forEach(id -> {
+            controller.onApplicationChanged(changed(id));
+            await().atMost(Duration.ofSeconds(5)).until(() -> fast.sent.contains(id));
+        });
+
+        assertThat(fast.sent).containsExactlyElementsOf(ids);
+        await().atMost(Duration.ofSeconds(5)).until(() -> slow.completed);
+
+        // Abgekoppelt: spätere Events erreichen den langsamen Client nicht mehr
+        slow.release.countDown();
+        controller.onApplicationChanged(changed(100L));
+        await().atMost(Duration.ofSeconds(5)).until(() -> fast.sent.size() == ids.size() + 1);
+        assertThat(slow.sent).doesNotContain(100L);
+    }
+
+    @Test
+    void heartbeatKeepsConnectionsOpenAndRemovesBrokenOnes() {
+        RecordingEmitter open = connect(new RecordingEmitter());
+        RecordingEmitter broken = connect(new RecordingEmitter());
+        broken.failing = true;
+
+        controller.heartbeat();
+        await().atMost(Duration.ofSeconds(5)).until(() -> open.sent.size() == 1 && broken.attempts == 1);
+        assertThat(open.sent).containsExactly(RecordingEmitter.KEEP_ALIVE);
+
+        controller.heartbeat();
+        await().atMost(Duration.ofSeconds(5)).until(() -> open.sent.size() == 2);
+        assertThat(broken.attempts).isEqualTo(1);
+    }
+
+    private RecordingEmitter connect(RecordingEmitter emitter) {
+        emitters.add(emitter);
+        controller.subscribe();
+        return emitter;
+    }
+
+    private static ApplicationChangedEvent changed(Long id) {
+        return new ApplicationChangedEvent(ApplicationChangedEvent.Type.UPDATED, id, null, null);
+    }
+
+    // Zeichnet IDs der Application-Events bzw. KEEP_ALIVE auf; optional blockiert send bis release
+    private static class RecordingEmitter extends SseEmitter {
+
+        static final String KEEP_ALIVE = "keep-alive";
+
+        final List<Object> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch release;
+        volatile boolean failing;
+        volatile boolean completed;
+        volatile int attempts;
+
+        RecordingEmitter() {
+            this(null);
+        }
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof ApplicationEventDTO event) {
+                    sent.add(event.getId());
+                } else if (part.getData().toString().startsWith(":" + KEEP_ALIVE)) {
+                    sent.add(KEEP_ALIVE);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dave.smartapply.controller;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.support.QueryCountingConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dave.smartapply.support.QueryCountAssertions.assertMaxQueries;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query-Budgets der Web-Schicht: jede Seite darf unabhängig von der Datenmenge
+ * nur eine feste Anzahl SQL-Statements absetzen (kein N+1, keine Zähl-Query je Status).
+ * Gemessen wird mit leeren Caches, also der teuerste Fall.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+class WebQueryBudgetTests {
+
+    private static final int SEED_SIZE = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long applicationId;
+
+    @BeforeEach
+    void seed() {
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < SEED_SIZE; i++) {
+            Application application = new Application();
+            application.setCompanyName("Company " + i);
+            application.setPosition("Developer");
+            application.setStatus(statuses[i % statuses.length]);
+            application.setApplicationDate(LocalDate.now().minusDays(i));
+            application.setDeadline(LocalDate.now().plusDays(i % 10));
+            application.setSalaryExpectation(50000);
+            applications.add(application);
+        }
+        applicationId = applicationRepository.saveAll(applications).get(0).getId();
+        clearCaches();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        applicationRepository.deleteAllInBatch();
+        clearCaches();
+    }
+
+    // zwei Top-N Listen + ein Status-Histogramm (Deadlines kommen aus dem DeadlineIndex)
+    @Test
+    void dashboardStaysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(3, () -> mockMvc.perform(get("/")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void warmDashboardIsServedFromCache() throws Throwable {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        assertMaxQueries(0, () -> mockMvc.perform(get("/")).andExpect(status().isOk()));
+    }
+
+    // eine Keyset-Seite + ein Status-Histogramm
+
+    @Test
+    void applicationListStaysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(2, () -> mockMvc.perform(get("/applications")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void filteredApplicationListStaysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(2, () -> mockMvc.perform(get("/applications").param("status", "APPLIED"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void applicationSearchStaysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(2, () -> mockMvc.perform(get("/applications").param("search", "Company"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    void applicationDetailStaysWithinQueryBudget() throws Throwable {
+        assertMaxQueries(1, () -> mockMvc.perform(get("/applications/{id}", applicationId))
+                .andExpect(status().isOk()));
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+}
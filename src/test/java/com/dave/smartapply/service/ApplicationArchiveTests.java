@@ -0,0 +1,165 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.impl.ApplicationArchive;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archivierung abgeschlossener Bewerbungen: der aktive Bestand schrumpft, Detailansicht,
+ * Liste, Suche und Statistik finden archivierte Bewerbungen weiterhin.
+ */
+@IntegrationTest(properties = {
+        "smartapply.archive.enabled=true",
+        "smartapply.archive.closed-for=30d",
+        "smartapply.archive.batch-size=2"
+})
+class ApplicationArchiveTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationArchive applicationArchive;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesOnlyLongClosedApplications() {
+        Long oldRejected = closedLongAgo("Archiv GmbH", ApplicationStatus.REJECTED);
+        Long oldAccepted = closedLongAgo("Archiv AG", ApplicationStatus.ACCEPTED);
+        Long oldRejectedToo = closedLongAgo("Archiv KG", ApplicationStatus.REJECTED);
+        Long recentRejected = applicationService.createApplication(anApplication().companyName("Neu GmbH").status(ApplicationStatus.REJECTED).build()).getId();
+        Long open = applicationService.createApplication(anApplication().companyName("Offen GmbH").status(ApplicationStatus.APPLIED).build()).getId();
+        long totalBefore = applicationService.getTotalApplications();
+
+        assertThat(applicationArchive.archiveClosed()).isEqualTo(3);
+
+        assertThat(applicationRepository.findAll()).extracting(Application::getId)
+                .containsExactlyInAnyOrder(recentRejected, open);
+        assertThat(applicationService.getApplicationById(oldRejected)).get()
+                .extracting(Application::getCompanyName).isEqualTo("Archiv GmbH");
+        assertThat(applicationService.getApplicationVersion(oldAccepted)).isPresent();
+        assertThat(applicationService.getApplicationById(oldRejectedToo)).isPresent();
+        assertThat(applicationService.getTotalApplications()).isEqualTo(totalBefore);
+    }
+
+    @Test
+    void listShowsWhatTheStatisticsCount() {
+        closedLongAgo("Liste Alt 1", ApplicationStatus.REJECTED, LocalDate.now().minusDays(120));
+        closedLongAgo("Liste Alt 2", ApplicationStatus.REJECTED, LocalDate.now().minusDays(5));
+        closedLongAgo("Liste Alt 3", ApplicationStatus.ACCEPTED, LocalDate.now().minusDays(60));
+        applicationService.createApplication(anApplication().status(ApplicationStatus.REJECTED)
+                .applicationDate(LocalDate.now().minusDays(30)).build());
+        applicationService.createApplication(anApplication().status(ApplicationStatus.APPLIED).build());
+        applicationArchive.archiveClosed();
+
+        List<ApplicationDTO> rejected = allPages(ApplicationStatus.REJECTED);
+        assertThat(rejected).hasSize((int) applicationService.getStatistics().getCount(ApplicationStatus.REJECTED))
+                .extracting(ApplicationDTO::getApplicationDate)
+                .containsExactly(LocalDate.now().minusDays(5), LocalDate.now().minusDays(30), LocalDate.now().minusDays(120));
+        assertThat(allPages(ApplicationStatus.APPLIED)).hasSize(1);
+        assertThat(allPages(null)).hasSize((int) applicationService.getTotalApplications())
+                .extracting(ApplicationDTO::getApplicationDate)
+                .isSortedAccordingTo((first, second) -> second.compareTo(first));
+        assertThat(applicationService.getApplicationsByStatus(ApplicationStatus.ACCEPTED)).hasSize(1);
+    }
+
+    @Test
+    void searchAppendsArchivedHitsAcrossPages() {
+        closedLongAgo("Suche Alt 1", ApplicationStatus.REJECTED);
+        closedLongAgo("Suche Alt 2", ApplicationStatus.REJECTED);
+        applicationService.createApplication(anApplication().companyName("Suche Neu 1").status(ApplicationStatus.APPLIED).build());
+        applicationService.createApplication(anApplication().companyName("Suche Neu 2").status(ApplicationStatus.APPLIED).build());
+        applicationService.createApplication(anApplication().companyName("Suche Neu 3").status(ApplicationStatus.APPLIED).build());
+        applicationArchive.archiveClosed();
+
+        Slice<ApplicationDTO> first = applicationService.searchApplications("suche", 0, 2);
+        Slice<ApplicationDTO> second = applicationService.searchApplications("suche", 1, 2);
+        Slice<ApplicationDTO> third = applicationService.searchApplications("suche", 2, 2);
+
+        assertThat(first.getContent()).extracting(ApplicationDTO::getCompanyName).allMatch(name -> name.contains("Neu"));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ApplicationDTO::getCompanyName)
+                .satisfiesExactly(name -> assertThat(name).contains("Neu"), name -> assertThat(name).contains("Alt"));
+        assertThat(second.hasNext()).isTrue();
+        assertThat(third.getContent()).hasSize(1);
+        assertThat(third.getContent().get(0).getCompanyName()).contains("Alt");
+        assertThat(third.hasNext()).isFalse();
+    }
+
+    @Test
+    void searchTreatsWildcardsLiterally() {
+        closedLongAgo("Rabatt 100% GmbH", ApplicationStatus.REJECTED);
+        applicationArchive.archiveClosed();
+        applicationService.createApplication(anApplication().companyName("Rabatt 100% AG").status(ApplicationStatus.APPLIED).build());
+        applicationService.createApplication(anApplication().companyName("Rabatt 1000 AG").status(ApplicationStatus.APPLIED).build());
+        applicationService.createApplication(anApplication().companyName("Rabatt_Test AG").status(ApplicationStatus.APPLIED).build());
+
+        assertThat(applicationService.searchApplications("100%", 0, 10).getContent())
+                .extracting(ApplicationDTO::getCompanyName)
+                .containsExactlyInAnyOrder("Rabatt 100% AG", "Rabatt 100% GmbH");
+        assertThat(applicationService.searchApplications("0_0", 0, 10).getContent()).isEmpty();
+    }
+
+    @Test
+    void changingAnArchivedApplicationRestoresIt() {
+        Long id = closedLongAgo("Zurück GmbH", ApplicationStatus.REJECTED);
+        applicationArchive.archiveClosed();
+
+        Application updated = applicationService.updateStatus(id, ApplicationStatus.INTERVIEW_SCHEDULED);
+
+        assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(applicationRepository.findById(id)).isPresent();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications_archive", Long.class)).isZero();
+
+        Long deleted = closedLongAgo("Weg GmbH", ApplicationStatus.ACCEPTED);
+        applicationArchive.archiveClosed();
+        applicationService.deleteApplication(deleted);
+        assertThat(applicationService.getApplicationById(deleted)).isEmpty();
+    }
+
+    private Long closedLongAgo(String companyName, ApplicationStatus status) {
+        return closedLongAgo(companyName, status, LocalDate.now());
+    }
+
+    private Long closedLongAgo(String companyName, ApplicationStatus status, LocalDate applicationDate) {
+        Long id = applicationService.createApplication(anApplication().companyName(companyName).status(status)
+                .applicationDate(applicationDate).build()).getId();
+        jdbcTemplate.update("UPDATE applications SET status_changed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(90), id);
+        return id;
+    }
+
+    // Seitengröße 1, damit jeder Cursor-Übergang zwischen aktivem Bestand und Archiv vorkommt
+    private List<ApplicationDTO> allPages(ApplicationStatus status) {
+        List<ApplicationDTO> items = new ArrayList<>();
+        ApplicationPageDTO page = applicationService.getApplicationPage(status, null, null, 1);
+        items.addAll(page.getItems());
+        while (page.isHasNext()) {
+            page = applicationService.getApplicationPage(status, page.getNextAfterDate(), page.getNextAfterId(), 1);
+            items.addAll(page.getItems());
+        }
+        return items;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.config.CacheConfig;
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.support.IntegrationTest;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statistik- und Dashboard-Cache werden erst nach dem Commit verworfen: solange die
+ * Transaktion läuft bleiben sie stehen, und nach einem Rollback behalten sie ihren Stand.
+ */
+@IntegrationTest
+class ApplicationCacheTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void writeEvictsCachesOnlyAfterCommit() {
+        warmCaches();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationService.createApplication(anApplication().build());
+            assertCachesWarm();
+        });
+
+        assertThat(entries(CacheConfig.STATISTICS_CACHE)).isEmpty();
+        assertThat(entries(CacheConfig.DASHBOARD_CACHE)).isEmpty();
+        assertThat(applicationService.getStatistics().getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rolledBackWriteKeepsCaches() {
+        warmCaches();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationService.createApplication(anApplication().build());
+            status.setRollbackOnly();
+        });
+
+        assertCachesWarm();
+        assertThat(applicationService.getStatistics().getTotalCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failedStatusChangeKeepsCaches() {
+        Application application = warmCaches();
+
+        assertThatThrownBy(() -> applicationService.updateStatus(application.getId(), ApplicationStatus.REJECTED,
+                application.getVersion() + 1))
+                .isInstanceOf(ApplicationConflictException.class);
+
+        assertCachesWarm();
+        applicationService.updateStatus(application.getId(), ApplicationStatus.REJECTED, application.getVersion());
+        assertThat(entries(CacheConfig.STATISTICS_CACHE)).isEmpty();
+        assertThat(entries(CacheConfig.DASHBOARD_CACHE)).isEmpty();
+    }
+
+    private Application warmCaches() {
+        Application application = applicationService.createApplication(anApplication().build());
+        applicationService.getStatistics();
+        applicationService.getRecentApplications(5);
+        applicationService.getOpenApplications(5);
+        assertCachesWarm();
+        return application;
+    }
+
+    private void assertCachesWarm() {
+        assertThat(entries(CacheConfig.STATISTICS_CACHE)).hasSize(1);
+        assertThat(entries(CacheConfig.DASHBOARD_CACHE)).containsOnlyKeys("recent:5", "open:5");
+    }
+
+    private Map<Object, Object> entries(String cacheName) {
+        @SuppressWarnings("unchecked")
+        Cache<Object, Object> cache = (Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache();
+        return cache.asMap();
+    }
+}
@@ -0,0 +1,127 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.support.IntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Export als CSV und NDJSON: Filter nach Status bzw. Suchbegriff, CSV-Quoting und
+ * Streaming über einen Cursor, bei dem nie mehr als die aktuelle Zeile verwaltet wird.
+ */
+@IntegrationTest
+class ApplicationExportTests {
+
+    private static final int STREAMED_ROWS = 1_200;
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void csvQuotesSeparatorsQuotesAndLineBreaks() throws IOException {
+        applicationService.createApplication(anApplication().companyName("Müller, Meier & \"Partner\"")
+                .notes("Zeile 1\nZeile 2").build());
+
+        String csv = export(null, null, ApplicationExportService.Format.CSV);
+
+        assertThat(csv).startsWith("id,companyName,position,status,");
+        assertThat(csv).contains(",\"Müller, Meier & \"\"Partner\"\"\",Developer,APPLIED,");
+        assertThat(csv).contains(",\"Zeile 1\nZeile 2\",");
+    }
+
+    @Test
+    void statusFilterExportsOnlyThatStatus() throws IOException {
+        applicationService.createApplication(anApplication().companyName("Offen AG").build());
+        applicationService.createApplication(anApplication().companyName("Abgesagt AG")
+                .status(ApplicationStatus.REJECTED).build());
+
+        String csv = export(ApplicationStatus.REJECTED, null, ApplicationExportService.Format.CSV);
+
+        assertThat(csv.lines()).hasSize(2);
+        assertThat(csv).contains("Abgesagt AG").doesNotContain("Offen AG");
+    }
+
+    @Test
+    void searchFilterMatchesCompanyPositionAndNotes() throws IOException {
+        applicationService.createApplication(anApplication().companyName("Java GmbH").build());
+        applicationService.createApplication(anApplication().companyName("Position AG").position("Java Developer").build());
+        applicationService.createApplication(anApplication().companyName("Notiz AG").notes("Java-Stack").build());
+        applicationService.createApplication(anApplication().companyName("Anders AG").build());
+
+        String ndjson = export(null, "  JAVA ", ApplicationExportService.Format.NDJSON);
+
+        assertThat(ndjson.lines()).hasSize(3).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+        assertThat(ndjson).contains("Java GmbH", "Position AG", "Notiz AG").doesNotContain("Anders AG");
+    }
+
+    @Test
+    void streamsRowsWithoutKeepingThemManaged() throws IOException {
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < STREAMED_ROWS; i++) {
+            applications.add(anApplication().build());
+        }
+        applicationRepository.saveAll(applications);
+
+        ManagedEntityProbe output = new ManagedEntityProbe();
+        long exported = applicationExportService.exportApplications(null, null,
+                ApplicationExportService.Format.CSV, output);
+
+        assertThat(exported).isEqualTo(STREAMED_ROWS);
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).hasSize(STREAMED_ROWS + 1);
+        // Ausgabe kommt in Teilen während des Exports, nicht erst am Ende
+        assertThat(output.writes).isGreaterThan(1);
+        assertThat(output.maxManagedEntities).isLessThanOrEqualTo(1);
+    }
+
+    private String export(ApplicationStatus status, String search, ApplicationExportService.Format format)
+            throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        applicationExportService.exportApplications(status, search, format, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    // Zählt bei jedem Schreiben die verwalteten Entities im Persistence Context des Exports
+    private class ManagedEntityProbe extends ByteArrayOutputStream {
+
+        int writes;
+        int maxManagedEntities;
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            writes++;
+            int managed = entityManager.unwrap(SessionImplementor.class)
+                    .getPersistenceContextInternal().getNumberOfManagedEntities();
+            maxManagedEntities = Math.max(maxManagedEntities, managed);
+            System.out.println("PROBE " + writes + " " + managed + " " + size() + " " + entityManager.unwrap(SessionImplementor.class).getPersistenceContextInternal().getEntitiesByKey().keySet().stream().limit(3).toList());
+            super.write(bytes, offset, length);
+        }
+
+        @Override
+        public void write(byte[] bytes) {
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
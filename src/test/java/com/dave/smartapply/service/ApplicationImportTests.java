@@ -0,0 +1,60 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationImportResultDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk-Import: ein Datenbankfehler in einem Chunk darf nur die betroffenen Zeilen kosten.
+ */
+@IntegrationTest
+class ApplicationImportTests {
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropConstraint() {
+        jdbcTemplate.execute("ALTER TABLE applications DROP CONSTRAINT IF EXISTS test_rejected_company");
+    }
+
+    @Test
+    void failedChunkReportsOnlyTheRejectedRows() {
+        // Besteht die Bean Validation, scheitert aber erst beim INSERT
+        jdbcTemplate.execute("ALTER TABLE applications ADD CONSTRAINT test_rejected_company "
+                + "CHECK (company_name <> 'Abgelehnt AG')");
+        StringBuilder csv = new StringBuilder("companyName,position,salaryExpectation\n");
+        for (int i = 1; i <= 10; i++) {
+            csv.append(i == 4 || i == 9 ? "Abgelehnt AG" : "Firma " + i).append(",Stelle ").append(i).append(",50000\n");
+        }
+
+        ApplicationImportResultDTO result = applicationImportService.importApplications(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)),
+                ApplicationImportService.Format.CSV);
+
+        assertThat(result.getImportedRows()).isEqualTo(8);
+        assertThat(result.getErrors())
+                .extracting(ApplicationImportResultDTO.RowError::getRowNumber)
+                .containsExactly(4L, 9L);
+        assertThat(applicationRepository.findAll())
+                .extracting(Application::getCompanyName)
+                .hasSize(8)
+                .doesNotContain("Abgelehnt AG");
+    }
+}
@@ -0,0 +1,128 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.ApplicationPageDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.impl.ApplicationArchive;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset-Pagination über (applicationDate, id): Seitengrenzen mitten in Gruppen mit gleichem
+ * Datum verlieren und wiederholen keine Zeile - auch nicht, wenn Archivseiten eingemischt werden.
+ * Gleiche Properties wie {@link ApplicationArchiveTests}, damit der Kontext geteilt wird.
+ */
+@IntegrationTest(properties = {
+        "smartapply.archive.enabled=true",
+        "smartapply.archive.closed-for=30d",
+        "smartapply.archive.batch-size=2"
+})
+class ApplicationPaginationTests {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationArchive applicationArchive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void pagesBreakTiesOnTheIdAcrossPageBoundaries() {
+        Long older = create(TODAY.minusDays(3), ApplicationStatus.APPLIED);
+        Long today1 = create(TODAY, ApplicationStatus.APPLIED);
+        Long yesterday1 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        Long today2 = create(TODAY, ApplicationStatus.APPLIED);
+        Long today3 = create(TODAY, ApplicationStatus.APPLIED);
+        Long yesterday2 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        Long today4 = create(TODAY, ApplicationStatus.APPLIED);
+        List<Long> expected = List.of(today4, today3, today2, today1, yesterday2, yesterday1, older);
+
+        // Seitengröße 3: die erste Grenze liegt mitten in den vier Bewerbungen von heute
+        assertThat(allPages(null, 3)).extracting(ApplicationDTO::getId).containsExactlyElementsOf(expected);
+        assertThat(allPages(null, 1)).extracting(ApplicationDTO::getId).containsExactlyElementsOf(expected);
+
+        assertThat(applicationRepository.findPage(Limit.of(3))).extracting(ApplicationDTO::getId)
+                .containsExactly(today4, today3, today2);
+        assertThat(applicationRepository.findPageAfter(TODAY, today2, Limit.of(3))).extracting(ApplicationDTO::getId)
+                .containsExactly(today1, yesterday2, yesterday1);
+    }
+
+    @Test
+    void statusPagesBreakTiesOnTheIdAcrossPageBoundaries() {
+        Long applied1 = create(TODAY, ApplicationStatus.APPLIED);
+        create(TODAY, ApplicationStatus.INTERVIEW_SCHEDULED);
+        Long applied2 = create(TODAY, ApplicationStatus.APPLIED);
+        Long applied3 = create(TODAY, ApplicationStatus.APPLIED);
+        create(TODAY, ApplicationStatus.INTERVIEW_SCHEDULED);
+        Long applied4 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+
+        assertThat(allPages(ApplicationStatus.APPLIED, 2)).extracting(ApplicationDTO::getId)
+                .containsExactly(applied3, applied2, applied1, applied4);
+
+        assertThat(applicationRepository.findPageByStatus(ApplicationStatus.APPLIED, Limit.of(2)))
+                .extracting(ApplicationDTO::getId).containsExactly(applied3, applied2);
+        assertThat(applicationRepository.findPageByStatusAfter(ApplicationStatus.APPLIED, TODAY, applied2, Limit.of(2)))
+                .extracting(ApplicationDTO::getId).containsExactly(applied1, applied4);
+    }
+
+    @Test
+    void archivedRowsInterleaveWithinTheSameDate() {
+        Long active1 = create(TODAY, ApplicationStatus.APPLIED);
+        Long archived1 = closedLongAgo(TODAY);
+        Long active2 = create(TODAY, ApplicationStatus.REJECTED);
+        Long archived2 = closedLongAgo(TODAY);
+        Long active3 = create(TODAY, ApplicationStatus.APPLIED);
+        Long archivedOlder = closedLongAgo(TODAY.minusDays(1));
+        Long activeOlder = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        assertThat(applicationArchive.archiveClosed()).isEqualTo(3);
+
+        List<Long> expected = List.of(active3, archived2, active2, archived1, active1, activeOlder, archivedOlder);
+        assertThat(allPages(null, 2)).extracting(ApplicationDTO::getId).containsExactlyElementsOf(expected);
+        assertThat(allPages(null, 3)).extracting(ApplicationDTO::getId).containsExactlyElementsOf(expected);
+        assertThat(allPages(ApplicationStatus.REJECTED, 1)).extracting(ApplicationDTO::getId)
+                .containsExactly(archived2, active2, archived1, archivedOlder);
+    }
+
+    private Long create(LocalDate applicationDate, ApplicationStatus status) {
+        return applicationService.createApplication(anApplication().status(status)
+                .applicationDate(applicationDate).build()).getId();
+    }
+
+    private Long closedLongAgo(LocalDate applicationDate) {
+        Long id = create(applicationDate, ApplicationStatus.REJECTED);
+        jdbcTemplate.update("UPDATE applications SET status_changed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(90), id);
+        return id;
+    }
+
+    private List<ApplicationDTO> allPages(ApplicationStatus status, int size) {
+        List<ApplicationDTO> items = new ArrayList<>();
+        ApplicationPageDTO page = applicationService.getApplicationPage(status, null, null, size);
+        items.addAll(page.getItems());
+        while (page.isHasNext()) {
+            assertThat(page.getItems()).hasSize(size);
+            page = applicationService.getApplicationPage(status, page.getNextAfterDate(), page.getNextAfterId(), size);
+            items.addAll(page.getItems());
+        }
+        return items;
+    }
+}
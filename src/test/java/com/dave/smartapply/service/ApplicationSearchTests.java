@@ -0,0 +1,98 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.service.impl.SimpleApplicationSearchEngine;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Suche auf H2 über die portable LIKE-Suche: Relevanz-Reihenfolge, wörtliche Suche nach
+ * % und _ sowie Seiten ohne Überschneidung.
+ */
+@IntegrationTest
+class ApplicationSearchTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationSearchEngine applicationSearchEngine;
+
+    @Test
+    void h2UsesTheLikeSearch() {
+        assertThat(applicationSearchEngine).isInstanceOf(SimpleApplicationSearchEngine.class);
+    }
+
+    @Test
+    void ranksExactCompanyThenPrefixThenCompanyThenPositionThenNotes() {
+        applicationService.createApplication(anApplication().companyName("Notiz AG").notes("Kontakt über Java-Meetup").build());
+        applicationService.createApplication(anApplication().companyName("Andere GmbH").position("Java Developer").build());
+        applicationService.createApplication(anApplication().companyName("Kaffee Java AG").build());
+        applicationService.createApplication(anApplication().companyName("Javalin GmbH").build());
+        applicationService.createApplication(anApplication().companyName("JAVA").build());
+
+        assertThat(search("  Java ", 0, 10).getContent()).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("JAVA", "Javalin GmbH", "Kaffee Java AG", "Andere GmbH", "Notiz AG");
+    }
+
+    @Test
+    void equalRelevanceIsOrderedByApplicationDateThenId() {
+        Long older = applicationService.createApplication(anApplication().companyName("Alpha Eins")
+                .applicationDate(LocalDate.now().minusDays(3)).build()).getId();
+        Long first = applicationService.createApplication(anApplication().companyName("Alpha Zwei").build()).getId();
+        Long second = applicationService.createApplication(anApplication().companyName("Alpha Drei").build()).getId();
+
+        assertThat(search("alpha", 0, 10).getContent()).extracting(ApplicationDTO::getId)
+                .containsExactly(second, first, older);
+    }
+
+    @Test
+    void wildcardsInTheTermAreMatchedLiterally() {
+        applicationService.createApplication(anApplication().companyName("100% Remote GmbH").build());
+        applicationService.createApplication(anApplication().companyName("1000 Leute AG").build());
+        applicationService.createApplication(anApplication().companyName("Team_Eins").build());
+        applicationService.createApplication(anApplication().companyName("TeamXEins").build());
+
+        assertThat(search("100%", 0, 10).getContent()).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("100% Remote GmbH");
+        assertThat(search("team_", 0, 10).getContent()).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("Team_Eins");
+        assertThat(applicationSearchEngine.count("100%")).isEqualTo(1);
+    }
+
+    @Test
+    void pagesCoverAllMatchesWithoutOverlap() {
+        for (int i = 0; i < 25; i++) {
+            applicationService.createApplication(anApplication().companyName("Seite " + i)
+                    .applicationDate(LocalDate.now().minusDays(i % 3)).build());
+        }
+        applicationService.createApplication(anApplication().companyName("Kein Treffer").build());
+
+        List<Long> ids = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        Slice<ApplicationDTO> slice;
+        int page = 0;
+        do {
+            slice = search("seite", page++, 10);
+            sizes.add(slice.getNumberOfElements());
+            slice.getContent().forEach(dto -> ids.add(dto.getId()));
+        } while (slice.hasNext());
+
+        assertThat(sizes).containsExactly(10, 10, 5);
+        assertThat(ids).doesNotHaveDuplicates().hasSize(25);
+        assertThat(search("seite", 3, 10).getContent()).isEmpty();
+    }
+
+    private Slice<ApplicationDTO> search(String term, int page, int size) {
+        return applicationService.searchApplications(term, page, size);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Bulk-Statuswechsel: ein UPDATE je ID-Chunk bzw. Filter, das Version, statusChangedAt und
+ * updatedAt selbst setzt, je geänderter Bewerbung genau ein Historieneintrag und nach dem
+ * Commit verworfene Statistik und neu aufgebauter Fristen-Index.
+ */
+@IntegrationTest
+class BulkStatusUpdateTests {
+
+    // Mehr als BULK_ID_CHUNK_SIZE, damit die IDs auf zwei UPDATEs verteilt werden
+    private static final int UNKNOWN_ID_COUNT = 1_200;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void chunkedUpdateBumpsVersionAndTimestampsOfChangedApplications() {
+        Application first = applicationService.createApplication(anApplication().build());
+        Application last = applicationService.createApplication(anApplication().build());
+        Application unchanged = applicationService.createApplication(
+                anApplication().status(ApplicationStatus.REJECTED).build());
+        // Spalten speichern Mikrosekunden
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        // Die beiden zu ändernden IDs landen in verschiedenen Chunks
+        List<Long> ids = new ArrayList<>();
+        ids.add(first.getId());
+        LongStream.range(0, UNKNOWN_ID_COUNT).forEach(i -> ids.add(-1 - i));
+        ids.add(unchanged.getId());
+        ids.add(last.getId());
+        ids.add(first.getId());
+
+        assertThat(applicationService.bulkUpdateStatus(ids, ApplicationStatus.REJECTED)).isEqualTo(2);
+
+        for (Application original : List.of(first, last)) {
+            Application updated = applicationRepository.findById(original.getId()).orElseThrow();
+            assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+            assertThat(updated.getVersion()).isEqualTo(original.getVersion() + 1);
+            assertThat(updated.getStatusChangedAt()).isAfterOrEqualTo(before).isEqualTo(updated.getUpdatedAt());
+        }
+        assertThat(applicationRepository.findById(unchanged.getId())).get()
+                .extracting(Application::getVersion).isEqualTo(unchanged.getVersion());
+    }
+
+    @Test
+    void recordsOneTransitionPerChangedApplication() {
+        Application changed = applicationService.createApplication(anApplication().build());
+        Application unchanged = applicationService.createApplication(
+                anApplication().status(ApplicationStatus.REJECTED).build());
+
+        applicationService.bulkUpdateStatus(List.of(changed.getId(), unchanged.getId(), changed.getId()),
+                ApplicationStatus.REJECTED);
+
+        assertThat(statusHistoryService.getHistory(changed.getId()))
+                .extracting(StatusTransitionDTO::getFromStatus, StatusTransitionDTO::getToStatus)
+                .containsExactly(tuple(null, ApplicationStatus.APPLIED),
+                        tuple(ApplicationStatus.APPLIED, ApplicationStatus.REJECTED));
+        assertThat(statusHistoryService.getHistory(unchanged.getId())).hasSize(1);
+    }
+
+    @Test
+    void filteredUpdateOnlyTouchesOlderApplicationsOfTheStatus() {
+        Application old = applicationService.createApplication(
+                anApplication().applicationDate(LocalDate.now().minusDays(40)).build());
+        Application recent = applicationService.createApplication(
+                anApplication().applicationDate(LocalDate.now().minusDays(5)).build());
+
+        assertThat(applicationService.bulkUpdateStatus(ApplicationStatus.APPLIED, 30, ApplicationStatus.REJECTED))
+                .isEqualTo(1);
+
+        assertThat(applicationRepository.findById(old.getId())).get()
+                .extracting(Application::getStatus, Application::getVersion)
+                .containsExactly(ApplicationStatus.REJECTED, old.getVersion() + 1);
+        assertThat(applicationRepository.findById(recent.getId())).get()
+                .extracting(Application::getStatus, Application::getVersion)
+                .containsExactly(ApplicationStatus.APPLIED, recent.getVersion());
+        assertThat(statusHistoryService.getHistory(old.getId())).hasSize(2);
+    }
+
+    @Test
+    void evictsStatisticsAndRebuildsTheDeadlineIndex() {
+        Application application = applicationService.createApplication(
+                anApplication().deadline(LocalDate.now().plusDays(5)).build());
+        // Beide Caches befüllen
+        assertThat(applicationService.getStatistics().getCount(ApplicationStatus.APPLIED)).isEqualTo(1);
+        assertThat(applicationService.getUpcomingDeadlines(10, 10)).extracting(ApplicationDTO::getId)
+                .containsExactly(application.getId());
+
+        applicationService.bulkUpdateStatus(List.of(application.getId()), ApplicationStatus.REJECTED);
+
+        assertThat(applicationService.getStatistics().getCount(ApplicationStatus.APPLIED)).isZero();
+        assertThat(applicationService.getStatistics().getCount(ApplicationStatus.REJECTED)).isEqualTo(1);
+        assertThat(applicationService.getUpcomingDeadlines(10, 10)).isEmpty();
+    }
+}
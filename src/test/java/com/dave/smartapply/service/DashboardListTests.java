@@ -0,0 +1,85 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Top-N-Listen der Startseite: in der Datenbank begrenzt, gleiche Sortierung wie die Liste
+ * (applicationDate, dann id absteigend), offene Liste ohne abgeschlossene Bewerbungen.
+ */
+@IntegrationTest
+class DashboardListTests {
+
+    private static final int TOP = 5;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Test
+    void recentApplicationsAreTheNewestFive() {
+        create(TODAY.minusDays(2), ApplicationStatus.APPLIED);
+        Long today1 = create(TODAY, ApplicationStatus.APPLIED);
+        create(TODAY.minusDays(1), ApplicationStatus.REJECTED);
+        Long today2 = create(TODAY, ApplicationStatus.ACCEPTED);
+        Long yesterday2 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        Long yesterday3 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        Long today3 = create(TODAY, ApplicationStatus.APPLIED);
+
+        // Die fünfte Stelle trennt die Bewerbungen von gestern: entscheidet die id
+        assertThat(applicationService.getRecentApplications(TOP)).extracting(ApplicationDTO::getId)
+                .containsExactly(today3, today2, today1, yesterday3, yesterday2);
+        assertThat(applicationRepository.findPage(Limit.of(2))).extracting(ApplicationDTO::getId)
+                .containsExactly(today3, today2);
+    }
+
+    @Test
+    void openApplicationsSkipClosedOnes() {
+        Long open1 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        create(TODAY, ApplicationStatus.REJECTED);
+        Long open2 = create(TODAY.minusDays(1), ApplicationStatus.INTERVIEW_SCHEDULED);
+        create(TODAY, ApplicationStatus.ACCEPTED);
+        Long open3 = create(TODAY, ApplicationStatus.OFFER_RECEIVED);
+        Long open4 = create(TODAY.minusDays(1), ApplicationStatus.APPLIED);
+        Long open5 = create(TODAY, ApplicationStatus.APPLIED);
+        create(TODAY.minusDays(2), ApplicationStatus.APPLIED);
+
+        assertThat(applicationService.getOpenApplications(TOP)).extracting(ApplicationDTO::getId)
+                .containsExactly(open5, open3, open4, open2, open1);
+        assertThat(applicationRepository.findOpenPage(ApplicationStatus.CLOSED_STATUSES, Limit.of(2)))
+                .extracting(ApplicationDTO::getId).containsExactly(open5, open3);
+    }
+
+    @Test
+    void listsStayBoundedForLargerTables() {
+        // Vier Bewerbungen je Tag, die jüngsten zuletzt angelegt
+        for (int day = 9; day >= 0; day--) {
+            for (int i = 0; i < 4; i++) {
+                create(TODAY.minusDays(day), ApplicationStatus.APPLIED);
+            }
+        }
+
+        assertThat(applicationService.getRecentApplications(TOP)).extracting(ApplicationDTO::getApplicationDate)
+                .containsExactly(TODAY, TODAY, TODAY, TODAY, TODAY.minusDays(1));
+        assertThat(applicationService.getOpenApplications(TOP)).extracting(ApplicationDTO::getApplicationDate)
+                .containsExactly(TODAY, TODAY, TODAY, TODAY, TODAY.minusDays(1));
+    }
+
+    private Long create(LocalDate applicationDate, ApplicationStatus status) {
+        return applicationService.createApplication(anApplication().status(status)
+                .applicationDate(applicationDate).build()).getId();
+    }
+}
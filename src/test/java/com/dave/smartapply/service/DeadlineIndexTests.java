@@ -0,0 +1,114 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.service.impl.DeadlineIndex;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DeadlineIndex: begrenztes Fenster mit Zähler für ältere Überfällige, Query jenseits
+ * des Horizonts, Versionsprüfung beim Nachführen einzelner Änderungen und Abgleich
+ * mit Änderungen anderer Instanzen.
+ */
+@IntegrationTest(properties = {
+        "smartapply.deadlines.overdue-days=10",
+        "smartapply.deadlines.horizon-days=30"
+})
+class DeadlineIndexTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private DeadlineIndex deadlineIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void overdueIncludesApplicationsBeforeTheWindow() {
+        Long old = applicationService.createApplication(newApplication("Alt GmbH", LocalDate.now().minusDays(100))).getId();
+        applicationService.createApplication(newApplication("Neu GmbH", LocalDate.now().minusDays(2)));
+        deadlineIndex.rebuild();
+
+        assertThat(deadlineIndex.overdue(10)).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("Alt GmbH", "Neu GmbH");
+        assertThat(deadlineIndex.overdueCount()).isEqualTo(2);
+
+        applicationService.updateStatus(old, ApplicationStatus.REJECTED);
+        applicationService.createApplication(newApplication("Älter GmbH", LocalDate.now().minusDays(50)));
+
+        assertThat(deadlineIndex.overdueCount()).isEqualTo(2);
+        assertThat(deadlineIndex.overdue(1)).extracting(ApplicationDTO::getCompanyName).containsExactly("Älter GmbH");
+    }
+
+    @Test
+    void ignoresChangesOlderThanTheIndexedVersion() {
+        Application created = applicationService.createApplication(newApplication("Version AG", LocalDate.now().plusDays(5)));
+        Application stale = applicationService.getApplicationById(created.getId()).orElseThrow();
+        Application moved = applicationService.getApplicationById(created.getId()).orElseThrow();
+        moved.setDeadline(LocalDate.now().plusDays(20));
+        applicationService.updateApplication(created.getId(), moved);
+
+        // Verspätet zugestelltes Nachführen des alten Stands (ohne Transaktion: sofort)
+        stale.setDeadline(LocalDate.now().plusDays(1));
+        deadlineIndex.applicationSaved(stale, stale.getStatus(), LocalDate.now().plusDays(5));
+
+        assertThat(deadlineIndex.upcoming(30, 10)).extracting(ApplicationDTO::getDeadline)
+                .containsExactly(LocalDate.now().plusDays(20));
+    }
+
+    @Test
+    void upcomingBeyondTheHorizonQueriesTheRest() {
+        for (int days : new int[] {5, 40, 50}) {
+            applicationService.createApplication(newApplication("In " + days + " Tagen", LocalDate.now().plusDays(days)));
+        }
+        deadlineIndex.rebuild();
+
+        assertThat(deadlineIndex.upcoming(10, 10)).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("In 5 Tagen");
+        assertThat(deadlineIndex.upcoming(45, 10)).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("In 5 Tagen", "In 40 Tagen");
+        assertThat(deadlineIndex.upcoming(60, 2)).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("In 5 Tagen", "In 40 Tagen");
+    }
+
+    @Test
+    void refreshPicksUpWritesOfOtherInstances() {
+        deadlineIndex.rebuild();
+        // Schreibzugriff einer anderen Instanz: Zeile und Änderungszähler in einer Transaktion
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("INSERT INTO applications (id, company_name, position, status, application_date, "
+                            + "deadline, salary_expectation, created_at, updated_at, status_changed_at, version) "
+                            + "VALUES (?, 'Andere Instanz', 'Developer', 'APPLIED', ?, ?, 50000, ?, ?, ?, 0)",
+                    1_000_000L, LocalDate.now(), LocalDate.now().plusDays(3), now, now, now);
+            jdbcTemplate.update("UPDATE data_change_counter SET version = version + 1 WHERE id = 1");
+        });
+        assertThat(deadlineIndex.upcoming(10, 10)).isEmpty();
+
+        deadlineIndex.refreshIfChanged();
+
+        assertThat(deadlineIndex.upcoming(10, 10)).extracting(ApplicationDTO::getCompanyName)
+                .containsExactly("Andere Instanz");
+    }
+
+    private static Application newApplication(String companyName, LocalDate deadline) {
+        return anApplication().companyName(companyName).applicationDate(LocalDate.now().minusDays(120))
+                .deadline(deadline).build();
+    }
+}
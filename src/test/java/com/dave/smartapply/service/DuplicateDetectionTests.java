@@ -0,0 +1,183 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.ApplicationImportResultDTO;
+import com.dave.smartapply.dto.DuplicateReportDTO;
+import com.dave.smartapply.exception.DuplicateApplicationException;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.impl.ApplicationArchive;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Duplikatprüfung über den normalisierten Fingerabdruck beim Anlegen und Importieren
+ * sowie der Report über Bestandsdaten ohne Fingerabdruck und über das Archiv.
+ */
+@IntegrationTest(properties = {
+        "smartapply.duplicates.batch-size=2",
+        "smartapply.archive.enabled=true",
+        "smartapply.archive.closed-for=30d"
+})
+class DuplicateDetectionTests {
+
+    // Außerhalb der von der Sequenz vergebenen IDs
+    private static final long LEGACY_ID_OFFSET = 1_000_000L;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationImportService applicationImportService;
+
+    @Autowired
+    private DuplicateReportService duplicateReportService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationArchive applicationArchive;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rejectsNearIdenticalApplicationOnCreate() {
+        Long id = applicationService.createApplication(
+                newApplication("ACME GmbH", "Java Developer", "https://www.acme.com/jobs/42/?utm_source=mail")).getId();
+
+        assertThatThrownBy(() -> applicationService.createApplication(
+                newApplication("  acme   gmbh ", "java developer", "http://acme.com/jobs/42#apply")))
+                .isInstanceOfSatisfying(DuplicateApplicationException.class,
+                        e -> assertThat(e.getExistingApplicationId()).isEqualTo(id));
+
+        applicationService.createApplication(newApplication("ACME GmbH", "Java Developer", "https://acme.com/jobs/43"));
+        assertThat(applicationRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void importSkipsExistingAndRepeatedRows() {
+        applicationService.createApplication(newApplication("Import AG", "Tester", null));
+        String csv = """
+                companyName,position,salaryExpectation
+                Import AG,Tester,40000
+                Neu AG,Tester,40000
+                neu ag , Tester,45000
+                Andere AG,Tester,40000
+                """;
+
+        ApplicationImportResultDTO result = applicationImportService.importApplications(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ApplicationImportService.Format.CSV);
+
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(ApplicationImportResultDTO.RowError::getRowNumber)
+                .containsExactly(1L, 3L);
+        assertThat(applicationRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void reportBackfillsFingerprintsAndGroupsDuplicates() {
+        for (long id = 1; id <= 5; id++) {
+            insertLegacy(id, id <= 3 ? "Alt GmbH" : "Einzeln " + id);
+        }
+        insertLegacy(6, "einzeln 5");
+
+        DuplicateReportDTO report = duplicateReportService.generateReport();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE fingerprint IS NULL", Long.class)).isZero();
+        assertThat(report.getClusterCount()).isEqualTo(2);
+        assertThat(report.getDuplicateCount()).isEqualTo(3);
+        assertThat(report.getClusters())
+                .extracting(DuplicateReportDTO.Cluster::getApplicationIds)
+                .containsExactlyInAnyOrder(
+                        List.of(LEGACY_ID_OFFSET + 1, LEGACY_ID_OFFSET + 2, LEGACY_ID_OFFSET + 3),
+                        List.of(LEGACY_ID_OFFSET + 5, LEGACY_ID_OFFSET + 6));
+        assertThat(duplicateReportService.getLatestReport()).isSameAs(report);
+    }
+
+    @Test
+    void backfilledLegacyRowsAreRejectedOnCreate() {
+        insertLegacy(1, "Bestand GmbH");
+
+        assertThat(duplicateReportService.backfillFingerprints()).isEqualTo(1);
+
+        assertThatThrownBy(() -> applicationService.createApplication(newApplication("bestand gmbh", "Developer", null)))
+                .isInstanceOfSatisfying(DuplicateApplicationException.class,
+                        e -> assertThat(e.getExistingApplicationId()).isEqualTo(LEGACY_ID_OFFSET + 1));
+    }
+
+    @Test
+    void archivedApplicationsAreRejectedOnCreateAndImport() {
+        Application archived = archive(newApplication("Archiv GmbH", "Developer", null));
+
+        assertThatThrownBy(() -> applicationService.createApplication(newApplication("archiv gmbh", "Developer", null)))
+                .isInstanceOfSatisfying(DuplicateApplicationException.class,
+                        e -> assertThat(e.getExistingApplicationId()).isEqualTo(archived.getId()));
+
+        String csv = """
+                companyName,position,salaryExpectation
+                Archiv GmbH,Developer,40000
+                """;
+        ApplicationImportResultDTO result = applicationImportService.importApplications(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ApplicationImportService.Format.CSV);
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getErrors())
+                .extracting(ApplicationImportResultDTO.RowError::getMessage)
+                .containsExactly("Duplikat der Bewerbung " + archived.getId());
+    }
+
+    @Test
+    void archivedApplicationsKeepTheirFingerprint() {
+        Application archived = archive(newApplication("Archiv GmbH", "Developer", null));
+        // Duplikat aus zwei gleichzeitigen Anlagen, das die Prüfung nicht verhindert
+        insertLegacy(1, "Archiv GmbH");
+
+        assertThat(duplicateReportService.generateReport().getClusters())
+                .extracting(DuplicateReportDTO.Cluster::getApplicationIds)
+                .containsExactly(List.of(archived.getId(), LEGACY_ID_OFFSET + 1));
+
+        applicationService.deleteApplication(LEGACY_ID_OFFSET + 1);
+        applicationService.updateStatus(archived.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(applicationRepository.findById(archived.getId())).get()
+                .extracting(Application::getFingerprint).isEqualTo(archived.getFingerprint());
+        assertThatThrownBy(() -> applicationService.createApplication(newApplication("Archiv GmbH", "Developer", null)))
+                .isInstanceOf(DuplicateApplicationException.class);
+    }
+
+    private Application archive(Application application) {
+        application.setStatus(ApplicationStatus.REJECTED);
+        Application saved = applicationService.createApplication(application);
+        jdbcTemplate.update("UPDATE applications SET status_changed_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(90), saved.getId());
+        applicationArchive.archiveClosed();
+        return saved;
+    }
+
+    // Bestandszeile von vor der Fingerprint-Spalte
+    private void insertLegacy(long id, String companyName) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO applications (id, company_name, position, status, application_date, "
+                        + "salary_expectation, created_at, updated_at, status_changed_at, version) "
+                        + "VALUES (?, ?, 'Developer', 'APPLIED', ?, 50000, ?, ?, ?, 0)",
+                LEGACY_ID_OFFSET + id, companyName, LocalDate.now(), now, now, now);
+    }
+
+    private static Application newApplication(String companyName, String position, String jobUrl) {
+        return anApplication().companyName(companyName).position(position).jobUrl(jobUrl).build();
+    }
+}
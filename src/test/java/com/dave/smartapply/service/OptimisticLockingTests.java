@@ -0,0 +1,113 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.exception.ApplicationConflictException;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.impl.StatusHistoryRecorder;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Optimistic Locking bei Änderungen: eine parallele Transaktion schreibt dieselbe Zeile,
+ * nachdem die Änderung sie gelesen hat (eingehängt in StatusHistoryRecorder.statusChanged,
+ * das jede Änderung vor dem Speichern aufruft).
+ */
+@IntegrationTest
+class OptimisticLockingTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private StatusHistoryRecorder statusHistoryRecorder;
+
+    @Test
+    void concurrentVersionBumpIsAConflictForTheEditedVersion() {
+        Application application = applicationService.createApplication(anApplication().build());
+        concurrentlyOnFirstAttempts(1, "UPDATE applications SET version = version + 1 WHERE id = ?", application.getId());
+
+        Application edit = anApplication().companyName(application.getCompanyName()).notes("geändert").build();
+        edit.setVersion(application.getVersion());
+
+        // Der Retry sieht die neue Version und wendet die Änderung nicht auf einen fremden Stand an
+        assertThatThrownBy(() -> applicationService.updateApplication(application.getId(), edit))
+                .isInstanceOfSatisfying(ApplicationConflictException.class,
+                        e -> assertThat(e.getCurrentVersion()).isEqualTo(application.getVersion() + 1));
+        assertThat(applicationRepository.findById(application.getId())).get()
+                .extracting(Application::getNotes).isEqualTo(application.getNotes());
+    }
+
+    @Test
+    void statusChangeIsRetriedAfterOneOptimisticLockFailure() {
+        Application application = applicationService.createApplication(anApplication().build());
+        concurrentlyOnFirstAttempts(1, "UPDATE applications SET version = version + 1 WHERE id = ?", application.getId());
+
+        Application updated = applicationService.updateStatus(application.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
+
+        assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.INTERVIEW_SCHEDULED);
+        assertThat(updated.getVersion()).isEqualTo(application.getVersion() + 2);
+    }
+
+    @Test
+    void statusChangeGivesUpAfterRepeatedOptimisticLockFailures() {
+        Application application = applicationService.createApplication(anApplication().build());
+        concurrentlyOnFirstAttempts(3, "UPDATE applications SET version = version + 1 WHERE id = ?", application.getId());
+
+        assertThatThrownBy(() -> applicationService.updateStatus(application.getId(), ApplicationStatus.REJECTED))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(applicationRepository.findById(application.getId())).get()
+                .extracting(Application::getStatus).isEqualTo(ApplicationStatus.APPLIED);
+    }
+
+    @Test
+    void statusChangeWritesOnlyTheChangedColumns() {
+        Application application = applicationService.createApplication(anApplication().notes("alt").build());
+        // Ändert eine Spalte ohne Versionssprung, wie ein Schreiber außerhalb von Hibernate
+        concurrentlyOnFirstAttempts(1, "UPDATE applications SET notes = 'parallel' WHERE id = ?", application.getId());
+
+        applicationService.updateStatus(application.getId(), ApplicationStatus.INTERVIEW_SCHEDULED);
+
+        // @DynamicUpdate: das UPDATE enthält notes nicht und überschreibt den parallelen Wert nicht
+        assertThat(applicationRepository.findById(application.getId())).get()
+                .extracting(Application::getStatus, Application::getNotes)
+                .containsExactly(ApplicationStatus.INTERVIEW_SCHEDULED, "parallel");
+    }
+
+    // Führt sql in den ersten attempts Änderungsversuchen in einer eigenen, sofort committeten Transaktion aus
+    private void concurrentlyOnFirstAttempts(int attempts, String sql, Object... args) {
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger remaining = new AtomicInteger(attempts);
+        doAnswer(invocation -> {
+            if (remaining.getAndDecrement() > 0) {
+                concurrent.executeWithoutResult(status -> jdbcTemplate.update(sql, args));
+            }
+            return invocation.callRealMethod();
+        }).when(statusHistoryRecorder).statusChanged(any(), any());
+    }
+}
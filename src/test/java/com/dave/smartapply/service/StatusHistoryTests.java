@@ -0,0 +1,128 @@
+package com.dave.smartapply.service;
+
+import com.dave.smartapply.dto.StatusFunnelDTO;
+import com.dave.smartapply.dto.StatusTransitionDTO;
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+import com.dave.smartapply.repository.ApplicationRepository;
+import com.dave.smartapply.service.impl.StatusRollupBatcher;
+import com.dave.smartapply.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.dave.smartapply.support.ApplicationFixture.anApplication;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Statushistorie und Funnel-Rollups: jeder Wechsel landet genau einmal in der Historie,
+ * zusammen mit dem Statuswechsel committed oder zurückgerollt, und genau einmal im Funnel -
+ * vor und nach dem Aufsummieren durch den Batcher.
+ */
+@IntegrationTest
+class StatusHistoryTests {
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private StatusHistoryService statusHistoryService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private StatusRollupBatcher statusRollupBatcher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void recordsEveryTransitionInOrder() {
+        Long id = applicationService.createApplication(anApplication().build()).getId();
+        applicationService.updateStatus(id, ApplicationStatus.INTERVIEW_SCHEDULED);
+        applicationService.updateStatus(id, ApplicationStatus.INTERVIEW_SCHEDULED);
+        applicationService.bulkUpdateStatus(List.of(id), ApplicationStatus.OFFER_RECEIVED);
+
+        assertThat(statusHistoryService.getHistory(id))
+                .extracting(StatusTransitionDTO::getFromStatus, StatusTransitionDTO::getToStatus)
+                .containsExactly(
+                        tuple(null, ApplicationStatus.APPLIED),
+                        tuple(ApplicationStatus.APPLIED, ApplicationStatus.INTERVIEW_SCHEDULED),
+                        tuple(ApplicationStatus.INTERVIEW_SCHEDULED, ApplicationStatus.OFFER_RECEIVED));
+        assertThat(applicationRepository.findById(id)).get()
+                .extracting(Application::getStatusChangedAt)
+                .isNotNull();
+    }
+
+    @Test
+    void funnelIsServedFromRollups() {
+        Long first = applicationService.createApplication(anApplication().build()).getId();
+        Long second = applicationService.createApplication(anApplication().build()).getId();
+        applicationService.updateStatus(first, ApplicationStatus.INTERVIEW_SCHEDULED);
+        applicationService.bulkUpdateStatus(ApplicationStatus.APPLIED, 0, ApplicationStatus.REJECTED);
+
+        StatusFunnelDTO funnel = statusHistoryService.getFunnel();
+
+        StatusFunnelDTO.Stage applied = stage(funnel, ApplicationStatus.APPLIED);
+        assertThat(applied.getEntered()).isEqualTo(2);
+        assertThat(applied.getExited()).isEqualTo(2);
+        assertThat(applied.getAverageHoursInStage()).isNotNull();
+        assertThat(funnel.getTransitions())
+                .filteredOn(transition -> transition.getFromStatus() == ApplicationStatus.APPLIED)
+                .extracting(StatusFunnelDTO.Transition::getToStatus, StatusFunnelDTO.Transition::getRate)
+                .containsExactlyInAnyOrder(
+                        tuple(ApplicationStatus.INTERVIEW_SCHEDULED, 0.5),
+                        tuple(ApplicationStatus.REJECTED, 0.5));
+        assertThat(statusHistoryService.getHistory(second)).hasSize(2);
+    }
+
+    @Test
+    void batcherFoldsPendingTransitionsIntoRollups() {
+        Long first = applicationService.createApplication(anApplication().build()).getId();
+        applicationService.createApplication(anApplication().build());
+        applicationService.bulkUpdateStatus(ApplicationStatus.APPLIED, 0, ApplicationStatus.INTERVIEW_SCHEDULED);
+        applicationService.updateStatus(first, ApplicationStatus.OFFER_RECEIVED);
+        StatusFunnelDTO pending = statusHistoryService.getFunnel();
+
+        assertThat(statusRollupBatcher.rollUp()).isEqualTo(5);
+        assertThat(statusRollupBatcher.rollUp()).isZero();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT transitions FROM application_status_rollup "
+                + "WHERE from_status = 'APPLIED' AND to_status = 'INTERVIEW_SCHEDULED'", Long.class)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM application_status_history "
+                + "WHERE seconds_in_previous IS NULL AND from_status IS NOT NULL", Long.class)).isZero();
+        assertThat(statusHistoryService.getFunnel()).isEqualTo(pending);
+        assertThat(stage(pending, ApplicationStatus.INTERVIEW_SCHEDULED).getEntered()).isEqualTo(2);
+        assertThat(stage(pending, ApplicationStatus.INTERVIEW_SCHEDULED).getExited()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackTransitionsAreNotRecorded() {
+        Long id = applicationService.createApplication(anApplication().build()).getId();
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            applicationService.bulkUpdateStatus(List.of(id), ApplicationStatus.REJECTED);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(statusHistoryService.getHistory(id)).hasSize(1);
+        assertThat(stage(statusHistoryService.getFunnel(), ApplicationStatus.REJECTED).getEntered()).isZero();
+    }
+
+    private static StatusFunnelDTO.Stage stage(StatusFunnelDTO funnel, ApplicationStatus status) {
+        return funnel.getStages().stream()
+                .filter(stage -> stage.getStatus() == status)
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.dave.smartapply.support;
+
+import com.dave.smartapply.model.Application;
+import com.dave.smartapply.model.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Testdaten: eine gültige Bewerbung (beworben, heute, eindeutiger Firmenname), von der
+ * Tests nur die Felder überschreiben, auf die es ihnen ankommt.
+ *
+ * <pre>
+ * applicationService.createApplication(anApplication().status(ApplicationStatus.REJECTED).build());
+ * </pre>
+ */
+public final class ApplicationFixture {
+
+    private static final AtomicInteger COMPANY_COUNTER = new AtomicInteger();
+
+    private String companyName = "Firma " + COMPANY_COUNTER.incrementAndGet();
+    private String position = "Developer";
+    private ApplicationStatus status = ApplicationStatus.APPLIED;
+    private LocalDate applicationDate = LocalDate.now();
+    private LocalDate deadline;
+    private String jobUrl;
+    private String notes;
+
+    private ApplicationFixture() {
+    }
+
+    public static ApplicationFixture anApplication() {
+        return new ApplicationFixture();
+    }
+
+    public ApplicationFixture companyName(String companyName) {
+        this.companyName = companyName;
+        return this;
+    }
+
+    public ApplicationFixture position(String position) {
+        this.position = position;
+        return this;
+    }
+
+    public ApplicationFixture status(ApplicationStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    public ApplicationFixture applicationDate(LocalDate applicationDate) {
+        this.applicationDate = applicationDate;
+        return this;
+    }
+
+    public ApplicationFixture deadline(LocalDate deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    public ApplicationFixture jobUrl(String jobUrl) {
+        this.jobUrl = jobUrl;
+        return this;
+    }
+
+    public ApplicationFixture notes(String notes) {
+        this.notes = notes;
+        return this;
+    }
+
+    public Application build() {
+        Application application = new Application();
+        application.setCompanyName(companyName);
+        application.setPosition(position);
+        application.setStatus(status);
+        application.setApplicationDate(applicationDate);
+        application.setDeadline(deadline);
+        application.setJobUrl(jobUrl);
+        application.setNotes(notes);
+        application.setSalaryExpectation(50000);
+        return application;
+    }
+}
@@ -0,0 +1,44 @@
+package com.dave.smartapply.support;
+
+import com.dave.smartapply.service.impl.ApplicationCache;
+import com.dave.smartapply.service.impl.DeadlineIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * Setzt die Datenbank vor der Testklasse und nach jedem Test auf den Stand nach den Migrationen
+ * zurück und leert alle Caches, die sonst Zeilen des vorigen Tests weiterreichen. Vorher, weil
+ * sich alle Test-Kontexte eine In-Memory-Datenbank teilen; nachher läuft nach den
+ * {@code @AfterEach}-Methoden der Testklasse.
+ */
+public class DatabaseCleanup implements BeforeAllCallback, AfterEachCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        clean(context);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        clean(context);
+    }
+
+    private static void clean(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        // Ohne Transaktion: geht auch mit Read/Write-Routing an den Primary
+        JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM application_status_history");
+        jdbcTemplate.update("UPDATE application_status_rollup SET transitions = 0, total_seconds = 0");
+        jdbcTemplate.update("DELETE FROM applications_archive");
+        jdbcTemplate.update("DELETE FROM applications");
+
+        applicationContext.getBean(ApplicationCache.class).invalidateAll();
+        applicationContext.getBean(EntityManagerFactory.class).getCache().evictAll();
+        applicationContext.getBean(DeadlineIndex.class).rebuild();
+    }
+}
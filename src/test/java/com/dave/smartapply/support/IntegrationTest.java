@@ -0,0 +1,30 @@
+package com.dave.smartapply.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Integrationstest gegen die H2-Testdatenbank (Profil "test"). Nach jedem Test räumt
+ * {@link DatabaseCleanup} Tabellen und Caches ab; Testdaten entstehen über {@link ApplicationFixture}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(DatabaseCleanup.class)
+public @interface IntegrationTest {
+
+    @AliasFor(annotation = SpringBootTest.class)
+    String[] properties() default {};
+
+    // RANDOM_PORT für Tests, die den eingebetteten Server brauchen (z.B. gzip)
+    @AliasFor(annotation = SpringBootTest.class)
+    SpringBootTest.WebEnvironment webEnvironment() default SpringBootTest.WebEnvironment.MOCK;
+}
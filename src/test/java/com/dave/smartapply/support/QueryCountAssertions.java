@@ -0,0 +1,43 @@
+package com.dave.smartapply.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.function.Executable;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Query-Budgets: zählt die SQL-Statements, die ein Block auf dem aktuellen Thread absetzt.
+ * Setzt voraus, dass {@link QueryCountingConfiguration} im Test-Kontext importiert ist.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Führt den Block aus und liefert die Anzahl der dabei abgesetzten Statements.
+     */
+    public static QueryCount countQueries(Executable block) throws Throwable {
+        QueryCountHolder.clear();
+        try {
+            block.execute();
+            return QueryCountHolder.getGrandTotal();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    /**
+     * Schlägt fehl, wenn der Block mehr als maxQueries Statements absetzt.
+     */
+    public static void assertMaxQueries(int maxQueries, Executable block) throws Throwable {
+        QueryCount count = countQueries(block);
+        if (count.getTotal() > maxQueries) {
+            fail(String.format("Expected at most %d queries but %d were executed "
+                            + "(select=%d, insert=%d, update=%d, delete=%d, other=%d)",
+                    maxQueries, count.getTotal(), count.getSelect(), count.getInsert(),
+                    count.getUpdate(), count.getDelete(), count.getOther()));
+        }
+    }
+}